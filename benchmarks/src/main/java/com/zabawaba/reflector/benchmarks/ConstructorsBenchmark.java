@@ -0,0 +1,81 @@
+package com.zabawaba.reflector.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zabawaba.reflector.Constructors;
+import com.zabawaba.reflector.ReflectorConstructor;
+import com.zabawaba.reflector.benchmarks.Samples.Base;
+import com.zabawaba.reflector.benchmarks.Samples.Deep;
+import com.zabawaba.reflector.benchmarks.Samples.Shallow;
+
+/**
+ * Constructor lookups and instantiation, compared to plain {@code new}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorsBenchmark {
+
+	@Param({ "shallow", "deep" })
+	public String hierarchy;
+
+	private Base target;
+	private boolean deep;
+	private ReflectorConstructor defaultConstructor;
+	private ReflectorConstructor constructor;
+	private String name = "name";
+	private Integer count = 1;
+
+	@Setup
+	public void setup() throws Exception {
+		target = Samples.create(hierarchy);
+		deep = target instanceof Deep;
+		defaultConstructor = Constructors.forObj(target).get();
+		constructor = Constructors.forObj(target).get(String.class, int.class);
+	}
+
+	@Benchmark
+	public ReflectorConstructor get() throws NoSuchMethodException {
+		return Constructors.forObj(target).get();
+	}
+
+	@Benchmark
+	public ReflectorConstructor getWithParameters() throws NoSuchMethodException {
+		return Constructors.forObj(target).get(String.class, int.class);
+	}
+
+	@Benchmark
+	public Object newInstance() throws Exception {
+		return defaultConstructor.newInstance();
+	}
+
+	@Benchmark
+	public Object newInstanceWithParameters() throws Exception {
+		return constructor.newInstance(name, count);
+	}
+
+	@Benchmark
+	public Object directNew() {
+		return deep ? new Deep() : new Shallow();
+	}
+
+	@Benchmark
+	public Object directNewWithParameters() {
+		return deep ? new Deep(name, count) : new Shallow(name, count);
+	}
+}
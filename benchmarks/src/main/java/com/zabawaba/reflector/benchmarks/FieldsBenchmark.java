@@ -0,0 +1,106 @@
+package com.zabawaba.reflector.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zabawaba.reflector.ClassAccess;
+import com.zabawaba.reflector.Fields;
+import com.zabawaba.reflector.ReflectorField;
+import com.zabawaba.reflector.benchmarks.Samples.Base;
+
+/**
+ * Field lookups and reads, compared to plain field access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldsBenchmark {
+
+	@Param({ "shallow", "deep" })
+	public String hierarchy;
+
+	private Base target;
+	private ReflectorField name;
+	private ReflectorField count;
+	private Field rawName;
+	private ClassAccess access;
+	private int nameIndex;
+	private int countIndex;
+
+	@Setup
+	public void setup() throws Exception {
+		target = Samples.create(hierarchy);
+		name = Fields.forObj(target).get("name");
+		count = Fields.forObj(target).get("count");
+		rawName = Base.class.getField("name");
+		access = ClassAccess.forClass(target.getClass());
+		nameIndex = access.fieldIndex("name");
+		countIndex = access.fieldIndex("count");
+	}
+
+	@Benchmark
+	public Set<ReflectorField> list() {
+		return Fields.forObj(target).list();
+	}
+
+	@Benchmark
+	public Set<ReflectorField> listWithFilter() {
+		return Fields.forObj(target).list(Fields.thatArePublic());
+	}
+
+	@Benchmark
+	public ReflectorField get() throws NoSuchFieldException {
+		return Fields.forObj(target).get("name");
+	}
+
+	@Benchmark
+	public Object getValue() {
+		return name.getValue();
+	}
+
+	@Benchmark
+	public int getInt() throws IllegalAccessException {
+		return count.getInt();
+	}
+
+	@Benchmark
+	public Object classAccessGet() throws IllegalAccessException {
+		return access.get(target, nameIndex);
+	}
+
+	@Benchmark
+	public int classAccessGetInt() throws IllegalAccessException {
+		return access.getInt(target, countIndex);
+	}
+
+	@Benchmark
+	public Object fieldGet() throws IllegalAccessException {
+		return rawName.get(target);
+	}
+
+	@Benchmark
+	public Object directGetValue() {
+		return target.name;
+	}
+
+	@Benchmark
+	public int directGetInt() {
+		return target.count;
+	}
+}
@@ -0,0 +1,79 @@
+package com.zabawaba.reflector.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zabawaba.reflector.Methods;
+import com.zabawaba.reflector.ReflectorMethod;
+import com.zabawaba.reflector.benchmarks.Samples.Base;
+
+/**
+ * Method lookups and calls, compared to plain method calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodsBenchmark {
+
+	@Param({ "shallow", "deep" })
+	public String hierarchy;
+
+	private Base target;
+	private ReflectorMethod getName;
+	private ReflectorMethod add;
+	private Method rawGetName;
+	private Integer one = 1;
+
+	@Setup
+	public void setup() throws Exception {
+		target = Samples.create(hierarchy);
+		getName = Methods.forObj(target).get("getName");
+		add = Methods.forObj(target).get("add");
+		rawGetName = Base.class.getMethod("getName");
+	}
+
+	@Benchmark
+	public ReflectorMethod get() throws NoSuchMethodException {
+		return Methods.forObj(target).get("getName");
+	}
+
+	@Benchmark
+	public Object call() throws Exception {
+		return getName.call();
+	}
+
+	@Benchmark
+	public Object callWithArgument() throws Exception {
+		return add.call(one);
+	}
+
+	@Benchmark
+	public Object methodInvoke() throws Exception {
+		return rawGetName.invoke(target);
+	}
+
+	@Benchmark
+	public Object directCall() {
+		return target.getName();
+	}
+
+	@Benchmark
+	public int directCallWithArgument() {
+		return target.add(one);
+	}
+}
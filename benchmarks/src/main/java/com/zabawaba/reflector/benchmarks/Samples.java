@@ -0,0 +1,125 @@
+package com.zabawaba.reflector.benchmarks;
+
+/**
+ * Classes the benchmarks reflect over. {@link Shallow} declares its members
+ * one level below {@link Base}, {@link Deep} sits five levels below it and
+ * every level in between adds members of its own.
+ */
+public final class Samples {
+
+	private Samples() {
+	}
+
+	/**
+	 * @param hierarchy
+	 *            "shallow" or "deep"
+	 * @return A new instance of the matching sample class
+	 */
+	public static Base create(String hierarchy) {
+		if ("deep".equals(hierarchy)) {
+			return new Deep();
+		}
+		if ("shallow".equals(hierarchy)) {
+			return new Shallow();
+		}
+		throw new IllegalArgumentException(hierarchy);
+	}
+
+	public static class Base {
+		public String name = "name";
+		public int count = 42;
+
+		public Base() {
+		}
+
+		public Base(String name, int count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int add(int value) {
+			return count + value;
+		}
+	}
+
+	public static class Shallow extends Base {
+		private long id;
+		private double ratio;
+
+		public Shallow() {
+		}
+
+		public Shallow(String name, int count) {
+			super(name, count);
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+	}
+
+	public static class Level1 extends Base {
+		protected String a1, b1, c1;
+		protected int d1, e1;
+
+		public String a1() { return a1; }
+		public String b1() { return b1; }
+		public int d1() { return d1; }
+	}
+
+	public static class Level2 extends Level1 {
+		protected String a2, b2, c2;
+		protected int d2, e2;
+
+		public String a2() { return a2; }
+		public String b2() { return b2; }
+		public int d2() { return d2; }
+	}
+
+	public static class Level3 extends Level2 {
+		protected String a3, b3, c3;
+		protected int d3, e3;
+
+		public String a3() { return a3; }
+		public String b3() { return b3; }
+		public int d3() { return d3; }
+	}
+
+	public static class Level4 extends Level3 {
+		protected String a4, b4, c4;
+		protected int d4, e4;
+
+		public String a4() { return a4; }
+		public String b4() { return b4; }
+		public int d4() { return d4; }
+	}
+
+	public static class Deep extends Level4 {
+		private long id;
+		private double ratio;
+
+		public Deep() {
+		}
+
+		public Deep(String name, int count) {
+			this.name = name;
+			this.count = count;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public double getRatio() {
+			return ratio;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates the objects {@link ReflectorField}, {@link ReflectorMethod} and
+ * {@link ReflectorConstructor} use to access their members. Reflector comes
+ * with an engine that calls core reflection and a faster one built on
+ * {@link java.lang.invoke.MethodHandle}s, more engines are found through
+ * {@link java.util.ServiceLoader}.
+ * <p>
+ * Members start out on core reflection, which is the cheapest to set up,
+ * and are promoted to the engine with the highest priority once they have
+ * been used {@code reflector.promotionThreshold} times (32 by default, 0
+ * promotes right away). Setting {@code reflector.engine} to an engine's name
+ * uses that engine for every member instead.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public interface AccessEngine {
+
+	/**
+	 * @return The name the engine can be selected by
+	 */
+	public String getName();
+
+	/**
+	 * @return The priority of the engine. Members are promoted to the engine
+	 *         with the highest priority that supports them.
+	 */
+	public int getPriority();
+
+	/**
+	 * @param field
+	 *            The field to access
+	 * @return The access to the field, or {@code null} if the engine can't
+	 *         access it
+	 */
+	public FieldAccess forField(Field field);
+
+	/**
+	 * @param method
+	 *            The method to invoke
+	 * @return The access to the method, or {@code null} if the engine can't
+	 *         invoke it
+	 */
+	public MethodAccess forMethod(Method method);
+
+	/**
+	 * @param constructor
+	 *            The constructor to invoke
+	 * @return The access to the constructor, or {@code null} if the engine
+	 *         can't invoke it
+	 */
+	public ConstructorAccess forConstructor(Constructor<?> constructor);
+}
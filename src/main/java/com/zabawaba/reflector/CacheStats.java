@@ -0,0 +1,59 @@
+package com.zabawaba.reflector;
+
+/**
+ * A snapshot of the lookups made in one of the caches behind {@link Fields},
+ * {@link Methods} and {@link Constructors}, see
+ * {@link ReflectorMetrics#cacheStats()}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class CacheStats {
+
+	private final String name;
+	private final long hits;
+	private final long misses;
+
+	CacheStats(String name, long hits, long misses) {
+		this.name = name;
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	/**
+	 * @return The name of the cache: {@code members} for the member lists of
+	 *         a class, {@code names} for lookups by name, {@code signatures}
+	 *         for resolved overloads and {@code filters} for the results of
+	 *         {@link MemoizedFilter}s
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return The number of lookups that were answered from the cache
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return The number of lookups that had to build or resolve the result
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * @return The share of lookups that were hits, 0 if there were none
+	 */
+	public double getHitRate() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return name + " [hits=" + hits + ", misses=" + misses + "]";
+	}
+}
@@ -0,0 +1,479 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accesses the members of a class by index instead of by name or through
+ * wrapper objects. Indexes are looked up once, for example with
+ * {@link #fieldIndex(String)}, and then used for every call. Calls go through
+ * the same shared access {@link ReflectorField}, {@link ReflectorMethod} and
+ * {@link ReflectorConstructor} use, so they are promoted, measured and
+ * recorded like any other, see {@link AccessEngine} and
+ * {@link ReflectorMetrics}.
+ * <p>
+ * Fields are indexed like {@link Fields#list()} orders them, methods like
+ * {@link Methods#listDistinct()} and constructors in declaration order.
+ * Accessors for all members are created up front.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class ClassAccess {
+
+	private final ClassMetadata metadata;
+	private final Field[] fields;
+	private final Method[] methods;
+	private final Constructor<?>[] constructors;
+
+	private final FieldAccess[] fieldAccesses;
+	private final MethodAccess[] methodAccesses;
+	private final ConstructorAccess[] constructorAccesses;
+
+	private final Map<Field, Integer> fieldIndexes = new HashMap<Field, Integer>();
+	private final Map<List<Object>, Integer> methodIndexes = new HashMap<List<Object>, Integer>();
+	// the method get(name) picks, and all overloads, by name
+	private final Map<String, Integer> methodsByName = new HashMap<String, Integer>();
+	private final Map<String, List<Integer>> overloadsByName = new HashMap<String, List<Integer>>();
+	private final Map<Constructor<?>, Integer> constructorIndexes = new HashMap<Constructor<?>, Integer>();
+
+	ClassAccess(ClassMetadata metadata) {
+		this.metadata = metadata;
+		this.fields = metadata.fields();
+		this.methods = metadata.distinctMethods();
+		this.constructors = metadata.constructors();
+
+		this.fieldAccesses = new FieldAccess[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			fieldAccesses[i] = Engines.forField(fields[i]);
+			fieldIndexes.put(fields[i], i);
+		}
+		this.methodAccesses = new MethodAccess[methods.length];
+		for (int i = 0; i < methods.length; i++) {
+			methodAccesses[i] = Engines.forMethod(methods[i]);
+			methodIndexes.put(ClassMetadata.signatureOf(methods[i]), i);
+			indexByName(i);
+		}
+		this.constructorAccesses = new ConstructorAccess[constructors.length];
+		for (int i = 0; i < constructors.length; i++) {
+			constructorAccesses[i] = Engines.forConstructor(constructors[i]);
+			constructorIndexes.put(constructors[i], i);
+		}
+	}
+
+	/**
+	 * Gets the index based access to the members of a class. It is created
+	 * once per class and shared.
+	 * 
+	 * @param type
+	 *            The class to access
+	 * @return The access to the class
+	 */
+	public static ClassAccess forClass(Class<?> type) {
+		return ClassMetadata.forClass(type).classAccess();
+	}
+
+	/**
+	 * @return The class whose members are accessed
+	 */
+	public Class<?> getType() {
+		return metadata.getType();
+	}
+
+	/**
+	 * @return The indexed fields. Do not modify the list.
+	 */
+	public List<Field> getFields() {
+		return Collections.unmodifiableList(Arrays.asList(fields));
+	}
+
+	/**
+	 * @return The indexed methods. Do not modify the list.
+	 */
+	public List<Method> getMethods() {
+		return Collections.unmodifiableList(Arrays.asList(methods));
+	}
+
+	/**
+	 * @return The indexed constructors. Do not modify the list.
+	 */
+	public List<Constructor<?>> getConstructors() {
+		return Collections.unmodifiableList(Arrays.<Constructor<?>> asList(constructors));
+	}
+
+	/**
+	 * Gets the index of a field, see {@link Fields#get(String)}
+	 * 
+	 * @param name
+	 *            The name of the field
+	 * @return The index of the field
+	 * @throws NoSuchFieldException
+	 *             If no field exists with the provided name
+	 */
+	public int fieldIndex(String name) throws NoSuchFieldException {
+		Field field = metadata.field(name);
+		Integer index = field == null ? null : fieldIndexes.get(field);
+		if (index == null) {
+			throw new NoSuchFieldException(name);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of a method, see {@link Methods#get(String)}
+	 * 
+	 * @param name
+	 *            The name of the method
+	 * @return The index of the method
+	 * @throws NoSuchMethodException
+	 *             If no method exists with the provided name
+	 */
+	public int methodIndex(String name) throws NoSuchMethodException {
+		Integer index = methodsByName.get(name);
+		if (index == null) {
+			throw new NoSuchMethodException(name);
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of a method, see {@link Methods#get(String, Class...)}
+	 * 
+	 * @param name
+	 *            The name of the method
+	 * @param parameterTypes
+	 *            The parameter types of the method
+	 * @return The index of the method
+	 * @throws NoSuchMethodException
+	 *             If no method accepts the parameter types
+	 */
+	public int methodIndex(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		if (parameterTypes == null) {
+			parameterTypes = new Class<?>[0];
+		}
+		List<Object> signature = new ArrayList<Object>(parameterTypes.length + 1);
+		signature.add(name);
+		signature.addAll(Arrays.asList(parameterTypes));
+		Integer index = methodIndexes.get(signature);
+		if (index != null) {
+			return index;
+		}
+
+		List<Integer> overloads = overloadsByName.get(name);
+		if (overloads != null) {
+			Class<?>[][] candidates = new Class<?>[overloads.size()][];
+			for (int i = 0; i < candidates.length; i++) {
+				candidates[i] = methods[overloads.get(i)].getParameterTypes();
+			}
+			int best = Signatures.mostSpecific(candidates, parameterTypes);
+			if (best != -1) {
+				return overloads.get(best);
+			}
+		}
+		throw new NoSuchMethodException(name + Arrays.toString(parameterTypes));
+	}
+
+	/**
+	 * Indexes a distinct method by name. Like {@link Methods#get(String)},
+	 * the method declared closest to the class wins and overloads declared by
+	 * the same class are ordered by their parameters.
+	 */
+	private void indexByName(int index) {
+		Method method = methods[index];
+		List<Integer> overloads = overloadsByName.get(method.getName());
+		if (overloads == null) {
+			overloads = new ArrayList<Integer>();
+			overloadsByName.put(method.getName(), overloads);
+		}
+		overloads.add(index);
+
+		Integer current = methodsByName.get(method.getName());
+		// distinct methods are ordered subclass first
+		if (current == null || methods[current].getDeclaringClass() == method.getDeclaringClass()
+				&& ClassMetadata.compareOverloads(method, methods[current]) < 0) {
+			methodsByName.put(method.getName(), index);
+		}
+	}
+
+	/**
+	 * Gets the index of a constructor, see {@link Constructors#get(Class...)}
+	 * 
+	 * @param parameterTypes
+	 *            The parameter types of the constructor
+	 * @return The index of the constructor
+	 * @throws NoSuchMethodException
+	 *             If no constructor accepts the parameter types
+	 */
+	public int constructorIndex(Class<?>... parameterTypes) throws NoSuchMethodException {
+		if (parameterTypes == null) {
+			parameterTypes = new Class<?>[0];
+		}
+		Constructor<?> constructor = metadata.constructor(parameterTypes);
+		Integer index = constructor == null ? null : constructorIndexes.get(constructor);
+		if (index == null) {
+			throw new NoSuchMethodException("<init>" + Arrays.toString(parameterTypes));
+		}
+		return index;
+	}
+
+	/**
+	 * Reads a field, see {@link Field#get(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public Object get(Object target, int fieldIndex) throws IllegalArgumentException, IllegalAccessException {
+		return fieldAccesses[fieldIndex].get(target);
+	}
+
+	/**
+	 * Writes a field, see {@link Field#set(Object, Object)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void set(Object target, int fieldIndex, Object value)
+			throws IllegalArgumentException, IllegalAccessException {
+		fieldAccesses[fieldIndex].set(target, value);
+	}
+
+	/**
+	 * Reads a field as an int without boxing, see {@link Field#getInt(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to an int
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public int getInt(Object target, int fieldIndex) throws IllegalArgumentException, IllegalAccessException {
+		return fieldAccesses[fieldIndex].getInt(target);
+	}
+
+	/**
+	 * Writes a field from an int without boxing, see
+	 * {@link Field#setInt(Object, int)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setInt(Object target, int fieldIndex, int value)
+			throws IllegalArgumentException, IllegalAccessException {
+		fieldAccesses[fieldIndex].setInt(target, value);
+	}
+
+	/**
+	 * Reads a field as a long without boxing, see
+	 * {@link Field#getLong(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a long
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public long getLong(Object target, int fieldIndex) throws IllegalArgumentException, IllegalAccessException {
+		return fieldAccesses[fieldIndex].getLong(target);
+	}
+
+	/**
+	 * Writes a field from a long without boxing, see
+	 * {@link Field#setLong(Object, long)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setLong(Object target, int fieldIndex, long value)
+			throws IllegalArgumentException, IllegalAccessException {
+		fieldAccesses[fieldIndex].setLong(target, value);
+	}
+
+	/**
+	 * Reads a field as a double without boxing, see
+	 * {@link Field#getDouble(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a double
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public double getDouble(Object target, int fieldIndex) throws IllegalArgumentException, IllegalAccessException {
+		return fieldAccesses[fieldIndex].getDouble(target);
+	}
+
+	/**
+	 * Writes a field from a double without boxing, see
+	 * {@link Field#setDouble(Object, double)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setDouble(Object target, int fieldIndex, double value)
+			throws IllegalArgumentException, IllegalAccessException {
+		fieldAccesses[fieldIndex].setDouble(target, value);
+	}
+
+	/**
+	 * Reads a field as a boolean without boxing, see
+	 * {@link Field#getBoolean(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field isn't
+	 *             a boolean
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public boolean getBoolean(Object target, int fieldIndex) throws IllegalArgumentException, IllegalAccessException {
+		return fieldAccesses[fieldIndex].getBoolean(target);
+	}
+
+	/**
+	 * Writes a field from a boolean without boxing, see
+	 * {@link Field#setBoolean(Object, boolean)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param fieldIndex
+	 *            The index of the field
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field isn't
+	 *             a boolean
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setBoolean(Object target, int fieldIndex, boolean value)
+			throws IllegalArgumentException, IllegalAccessException {
+		fieldAccesses[fieldIndex].setBoolean(target, value);
+	}
+
+	/**
+	 * Invokes a method, see {@link Method#invoke(Object, Object...)}
+	 * 
+	 * @param target
+	 *            The object to invoke the method on, ignored for static
+	 *            methods
+	 * @param methodIndex
+	 *            The index of the method
+	 * @param args
+	 *            The parameters to invoke the method with
+	 * @return The value the method returned, {@code null} for void methods
+	 * @throws InvocationTargetException
+	 *             if the method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if the target or parameters don't match the method
+	 * @throws IllegalAccessException
+	 *             if the method is not accessible
+	 */
+	public Object invoke(Object target, int methodIndex, Object... args)
+			throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+		MethodAccess access = methodAccesses[methodIndex];
+		Object event = Events.beginInvocation();
+		try {
+			return access.invoke(target, args);
+		} finally {
+			Events.endInvocation(event, access.getMethod());
+		}
+	}
+
+	/**
+	 * Creates a new instance, see {@link Constructor#newInstance(Object...)}
+	 * 
+	 * @param constructorIndex
+	 *            The index of the constructor
+	 * @param args
+	 *            The parameters to invoke the constructor with
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             if the class is abstract
+	 * @throws IllegalArgumentException
+	 *             if the parameters don't match the constructor
+	 * @throws InvocationTargetException
+	 *             if the constructor throws an exception
+	 * @throws IllegalAccessException
+	 *             if the constructor is not accessible
+	 */
+	public Object newInstance(int constructorIndex, Object... args)
+			throws InstantiationException, IllegalArgumentException, InvocationTargetException, IllegalAccessException {
+		ConstructorAccess access = constructorAccesses[constructorIndex];
+		Object event = Events.beginInvocation();
+		try {
+			return access.newInstance(args);
+		} finally {
+			Events.endInvocation(event, access.getConstructor());
+		}
+	}
+}
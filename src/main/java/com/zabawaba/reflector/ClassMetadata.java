@@ -0,0 +1,946 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the already accessible members of a class and all of its
+ * superclasses. Instances are built once per {@link Class} and shared by every
+ * {@link Fields}, {@link Methods} and {@link Constructors} instance created
+ * for that class.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class ClassMetadata {
+
+	/**
+	 * The number of memoized filter results kept per class
+	 */
+	static final int MEMOIZED_FILTERS = 32;
+
+	/**
+	 * The number of resolved constructor and method signatures kept per class
+	 */
+	static final int RESOLVED_SIGNATURES = 64;
+
+	// ClassValue keeps the metadata with the Class itself, so a cached entry
+	// never keeps a class loader from being unloaded
+	private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+		@Override
+		protected ClassMetadata computeValue(Class<?> type) {
+			return new ClassMetadata(type);
+		}
+	};
+
+	private final Class<?> type;
+
+	private volatile Field[] fields;
+	private volatile Method[] methods;
+	private volatile Constructor<?>[] constructors;
+	private volatile Method[] distinctMethods;
+
+	private volatile Map<String, Field> fieldsByName;
+	private volatile Map<String, Method> methodsByName;
+	private volatile Map<List<Class<?>>, Constructor<?>> constructorsBySignature;
+	private Constructor<?> defaultConstructor;
+
+	private final ConcurrentMap<Method, MethodInvoker> methodInvokers = new ConcurrentHashMap<Method, MethodInvoker>();
+	private final ConcurrentMap<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<Field, FieldAccessor>();
+	private final ConcurrentMap<Constructor<?>, ConstructorInvoker> constructorInvokers = new ConcurrentHashMap<Constructor<?>, ConstructorInvoker>();
+	// what the wrappers use, see Engines
+	private final ConcurrentMap<Field, FieldAccess> fieldAccesses = new ConcurrentHashMap<Field, FieldAccess>();
+	private final ConcurrentMap<Method, MethodAccess> methodAccesses = new ConcurrentHashMap<Method, MethodAccess>();
+	private final ConcurrentMap<Constructor<?>, ConstructorAccess> constructorAccesses = new ConcurrentHashMap<Constructor<?>, ConstructorAccess>();
+	// guarded by itself, least recently used first
+	private final Map<List<Object>, Object[]> memoized = lru(MEMOIZED_FILTERS);
+
+	// guarded by themselves, least recently used first
+	private final Map<List<Class<?>>, Constructor<?>> resolvedConstructors = lru(RESOLVED_SIGNATURES);
+
+	private volatile Map<String, Overloads> overloadsByName;
+	// keyed by the method name followed by the argument types
+	private final Map<List<Object>, Method> resolvedMethods = lru(RESOLVED_SIGNATURES);
+
+	private volatile MapPlan mapPlan;
+	private volatile FieldPlan fieldPlan;
+	private volatile ClassAccess classAccess;
+	// copiers from this class, keyed by target class
+	private final ConcurrentMap<Class<?>, Copier> copiers = new ConcurrentHashMap<Class<?>, Copier>();
+	// copiers to this class, keyed by source class
+	private final ConcurrentMap<Class<?>, Copier> copiersTo = new ConcurrentHashMap<Class<?>, Copier>();
+
+	// the compile time index, published by indexLoaded
+	private MemberIndex memberIndex;
+	private volatile boolean indexLoaded;
+	private final ConcurrentMap<String, Field> indexedFields = new ConcurrentHashMap<String, Field>();
+	private final ConcurrentMap<String, Method> indexedMethods = new ConcurrentHashMap<String, Method>();
+
+	// written while holding itself, only created when metrics are on
+	private final Map<Member, MetricsRegistry.Counter> counters = MetricsRegistry.ENABLED
+			? new ConcurrentHashMap<Member, MetricsRegistry.Counter>()
+			: null;
+
+	private ClassMetadata(Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * @param type
+	 *            The class to get the metadata for
+	 * @return The shared metadata of the given class
+	 */
+	static ClassMetadata forClass(Class<?> type) {
+		return CACHE.get(type);
+	}
+
+	/**
+	 * @return The class this metadata describes
+	 */
+	Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @param member
+	 *            A member declared by this class, only called when metrics
+	 *            are on
+	 * @return The counters of the member, shared by every access to it
+	 */
+	MetricsRegistry.Counter counter(Member member) {
+		MetricsRegistry.Counter counter = counters.get(member);
+		if (counter == null) {
+			synchronized (counters) {
+				counter = counters.get(member);
+				if (counter == null) {
+					if (counters.isEmpty()) {
+						MetricsRegistry.measured(this);
+					}
+					counter = new MetricsRegistry.Counter(member);
+					counters.put(member, counter);
+				}
+			}
+		}
+		return counter;
+	}
+
+	/**
+	 * @return The counters of the members of this class
+	 */
+	Collection<MetricsRegistry.Counter> counters() {
+		if (counters == null) {
+			return Collections.emptyList();
+		}
+		return counters.values();
+	}
+
+	/**
+	 * @return All fields declared by the class and its superclasses, starting
+	 *         with the class itself. The returned array must not be modified.
+	 */
+	Field[] fields() {
+		Field[] result = fields;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.MEMBERS, result != null);
+		}
+		if (result == null) {
+			Object event = Events.beginScan();
+			List<Field> list = new ArrayList<Field>();
+			Class<?> currentClass = type;
+			while (currentClass != null) {
+				for (Field f : currentClass.getDeclaredFields()) {
+					list.add(makeAccessible(f));
+				}
+				currentClass = currentClass.getSuperclass();
+			}
+			fields = result = list.toArray(new Field[list.size()]);
+			Events.endScan(event, type, "field", result.length);
+		}
+		return result;
+	}
+
+	/**
+	 * @return All methods declared by the class and its superclasses, starting
+	 *         with the class itself. The returned array must not be modified.
+	 */
+	Method[] methods() {
+		Method[] result = methods;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.MEMBERS, result != null);
+		}
+		if (result == null) {
+			Object event = Events.beginScan();
+			List<Method> list = new ArrayList<Method>();
+			Class<?> currentClass = type;
+			while (currentClass != null) {
+				for (Method m : currentClass.getDeclaredMethods()) {
+					list.add(makeAccessible(m));
+				}
+				currentClass = currentClass.getSuperclass();
+			}
+			methods = result = list.toArray(new Method[list.size()]);
+			Events.endScan(event, type, "method", result.length);
+		}
+		return result;
+	}
+
+	/**
+	 * @return One method per signature: the most specific override declared
+	 *         by the class or its superclasses, or else the most specific
+	 *         default method of an interface the class implements. Bridge and
+	 *         synthetic methods are left out. The returned array must not be
+	 *         modified.
+	 */
+	Method[] distinctMethods() {
+		Method[] result = distinctMethods;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.MEMBERS, result != null);
+		}
+		if (result == null) {
+			Map<List<Object>, Method> bySignature = new LinkedHashMap<List<Object>, Method>();
+			for (Method m : methods()) {
+				// methods are ordered subclass first, keep the first one seen
+				List<Object> signature = signatureOf(m);
+				if (!m.isBridge() && !m.isSynthetic() && !bySignature.containsKey(signature)) {
+					bySignature.put(signature, m);
+				}
+			}
+			for (Class<?> i : interfaces()) {
+				for (Method m : i.getDeclaredMethods()) {
+					if (!isDefault(m) || m.isSynthetic()) {
+						continue;
+					}
+					List<Object> signature = signatureOf(m);
+					Method current = bySignature.get(signature);
+					// a default method only replaces one of a superinterface
+					if (current == null || current.getDeclaringClass().isInterface()
+							&& current.getDeclaringClass().isAssignableFrom(i)) {
+						bySignature.put(signature, makeAccessible(m));
+					}
+				}
+			}
+			distinctMethods = result = bySignature.values().toArray(new Method[bySignature.size()]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return The interfaces the class and its superclasses implement,
+	 *         directly or through other interfaces
+	 */
+	private Set<Class<?>> interfaces() {
+		Set<Class<?>> result = new LinkedHashSet<Class<?>>();
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			addInterfaces(c, result);
+		}
+		return result;
+	}
+
+	private static void addInterfaces(Class<?> type, Set<Class<?>> result) {
+		for (Class<?> i : type.getInterfaces()) {
+			if (result.add(i)) {
+				addInterfaces(i, result);
+			}
+		}
+	}
+
+	private static boolean isDefault(Method method) {
+		// the same test as Method.isDefault, which isn't available on Java 7
+		int modifiers = method.getModifiers();
+		return (modifiers & (Modifier.ABSTRACT | Modifier.PUBLIC | Modifier.STATIC)) == Modifier.PUBLIC
+				&& method.getDeclaringClass().isInterface();
+	}
+
+	/**
+	 * @return The name of the method followed by its parameter types
+	 */
+	static List<Object> signatureOf(Method method) {
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		List<Object> signature = new ArrayList<Object>(parameterTypes.length + 1);
+		signature.add(method.getName());
+		signature.addAll(Arrays.asList(parameterTypes));
+		return signature;
+	}
+
+	/**
+	 * @return All constructors declared by the class. The returned array must
+	 *         not be modified.
+	 */
+	Constructor<?>[] constructors() {
+		Constructor<?>[] result = constructors;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.MEMBERS, result != null);
+		}
+		if (result == null) {
+			Object event = Events.beginScan();
+			result = type.getDeclaredConstructors();
+			for (Constructor<?> c : result) {
+				makeAccessible(c);
+			}
+			constructors = result;
+			Events.endScan(event, type, "constructor", result.length);
+		}
+		return result;
+	}
+
+	/**
+	 * Resolves everything that is otherwise built on first use: the member
+	 * arrays and the name and signature indexes.
+	 *
+	 * @return The number of fields, methods and constructors of the class
+	 */
+	int warmUp() {
+		field("");
+		method("");
+		defaultConstructor();
+		return fields().length + methods().length + constructors().length;
+	}
+
+	/**
+	 * Applies a filter to members of this class. Results of a
+	 * {@link MemoizedFilter} are cached when this class can reference the
+	 * filter, see {@link MemoizedFilter#canBeCachedBy(Class)}.
+	 *
+	 * @param members
+	 *            Members returned by this metadata
+	 * @param filter
+	 *            The filter to apply, {@code null} to keep all members
+	 * @return The members that pass the filter. The returned array must not
+	 *         be modified.
+	 */
+	<M> M[] select(M[] members, Filter<M> filter) {
+		if (filter == null) {
+			return members;
+		}
+		if (!(filter instanceof MemoizedFilter) || !((MemoizedFilter<M>) filter).canBeCachedBy(type)) {
+			return apply(members, filter);
+		}
+
+		// member arrays are built once and compare by identity, so the array
+		// tells fields, methods and distinct methods apart
+		List<Object> key = Arrays.<Object> asList(members, filter);
+		Object[] result;
+		synchronized (memoized) {
+			result = memoized.get(key);
+		}
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.FILTERS, result != null);
+		}
+		if (result == null) {
+			// filters run outside of the lock
+			result = apply(members, filter);
+			synchronized (memoized) {
+				memoized.put(key, result);
+			}
+		}
+		@SuppressWarnings("unchecked")
+		M[] selected = (M[]) result;
+		return selected;
+	}
+
+	private static <M> M[] apply(M[] members, Filter<M> filter) {
+		List<M> result = new ArrayList<M>();
+		for (M member : members) {
+			if (filter.apply(member)) {
+				result.add(member);
+			}
+		}
+		return result.toArray(Arrays.copyOf(members, 0));
+	}
+
+	/**
+	 * Finds the field with the given name. When a field is shadowed the one
+	 * declared closest to the class wins.
+	 *
+	 * @param name
+	 *            The name of the field
+	 * @return The field with the given name or {@code null} if there is none
+	 */
+	Field field(String name) {
+		Map<String, Field> index = fieldsByName;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.NAMES, index != null);
+		}
+		if (index == null) {
+			Field indexed = indexedField(name);
+			if (indexed != null) {
+				return indexed;
+			}
+			index = new HashMap<String, Field>();
+			for (Field f : fields()) {
+				// fields are ordered subclass first, keep the first one seen
+				if (!index.containsKey(f.getName())) {
+					index.put(f.getName(), f);
+				}
+			}
+			fieldsByName = index = Collections.unmodifiableMap(index);
+		}
+		return index.get(name);
+	}
+
+	/**
+	 * Finds a method with the given name. Methods declared closest to the
+	 * class win, and overloads declared by the same class are ordered by
+	 * their number of parameters and then by the names of their parameter
+	 * types.
+	 *
+	 * @param name
+	 *            The name of the method
+	 * @return The method with the given name or {@code null} if there is none
+	 */
+	Method method(String name) {
+		Map<String, Method> index = methodsByName;
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.NAMES, index != null);
+		}
+		if (index == null) {
+			Method indexed = indexedMethod(name);
+			if (indexed != null) {
+				return indexed;
+			}
+			index = new HashMap<String, Method>();
+			for (Method m : methods()) {
+				Method current = index.get(m.getName());
+				// methods are ordered subclass first, so only overloads from
+				// the same class can replace the current one
+				if (current == null || current.getDeclaringClass() == m.getDeclaringClass()
+						&& compareOverloads(m, current) < 0) {
+					index.put(m.getName(), m);
+				}
+			}
+			methodsByName = index = Collections.unmodifiableMap(index);
+		}
+		return index.get(name);
+	}
+
+	/**
+	 * Finds the method with the given name and exactly the given parameter
+	 * types. If there is none, the most specific overload the types can be
+	 * passed to is returned instead, allowing boxing, unboxing, widening and
+	 * subtyping. Overridden methods are never returned.
+	 *
+	 * @param name
+	 *            The name of the method
+	 * @param parameterTypes
+	 *            The parameter types, {@code null} elements match any
+	 *            reference type
+	 * @return The matching method or {@code null} if there is none
+	 */
+	Method method(String name, Class<?>[] parameterTypes) {
+		Overloads overloads = overloadIndex().get(name);
+		if (overloads == null) {
+			return null;
+		}
+		for (int i = 0; i < overloads.methods.length; i++) {
+			if (Arrays.equals(overloads.parameterTypes[i], parameterTypes)) {
+				return overloads.methods[i];
+			}
+		}
+
+		List<Object> key = new ArrayList<Object>(parameterTypes.length + 1);
+		key.add(name);
+		key.addAll(Arrays.asList(parameterTypes));
+		Method method;
+		synchronized (resolvedMethods) {
+			method = resolvedMethods.get(key);
+		}
+		if (MetricsRegistry.ENABLED) {
+			MetricsRegistry.cache(MetricsRegistry.SIGNATURES, method != null);
+		}
+		if (method == null) {
+			int index = Signatures.mostSpecific(overloads.parameterTypes, parameterTypes);
+			if (index == -1) {
+				return null;
+			}
+			method = overloads.methods[index];
+			if (canReferenceAll(parameterTypes)) {
+				synchronized (resolvedMethods) {
+					resolvedMethods.put(key, method);
+				}
+			}
+		}
+		return method;
+	}
+
+	private Map<String, Overloads> overloadIndex() {
+		Map<String, Overloads> index = overloadsByName;
+		if (index == null) {
+			Map<String, Map<List<Class<?>>, Method>> bySignature = new HashMap<String, Map<List<Class<?>>, Method>>();
+			for (Method m : methods()) {
+				Map<List<Class<?>>, Method> signatures = bySignature.get(m.getName());
+				if (signatures == null) {
+					signatures = new LinkedHashMap<List<Class<?>>, Method>();
+					bySignature.put(m.getName(), signatures);
+				}
+				List<Class<?>> signature = Arrays.<Class<?>> asList(m.getParameterTypes());
+				Method current = signatures.get(signature);
+				// methods are ordered subclass first, so the first one seen
+				// overrides the others. A bridge only loses to the method it
+				// bridges to
+				if (current == null || current.isBridge() && !m.isBridge()
+						&& current.getDeclaringClass() == m.getDeclaringClass()) {
+					signatures.put(signature, m);
+				}
+			}
+
+			index = new HashMap<String, Overloads>();
+			for (Map.Entry<String, Map<List<Class<?>>, Method>> e : bySignature.entrySet()) {
+				index.put(e.getKey(), new Overloads(e.getValue().values()));
+			}
+			overloadsByName = index = Collections.unmodifiableMap(index);
+		}
+		return index;
+	}
+
+	/**
+	 * @return The compile time index of the class, or {@code null} if it
+	 *         wasn't annotated with {@link Indexed}
+	 */
+	MemberIndex memberIndex() {
+		if (!indexLoaded) {
+			memberIndex = MemberIndex.load(type);
+			indexLoaded = true;
+		}
+		return memberIndex;
+	}
+
+	/**
+	 * Finds a field through the compile time index, only reflecting on the
+	 * class that declares it.
+	 *
+	 * @return The field or {@code null} if the index doesn't know it
+	 */
+	private Field indexedField(String name) {
+		Field field = indexedFields.get(name);
+		if (field != null) {
+			return field;
+		}
+		MemberIndex memberIndex = memberIndex();
+		Class<?> owner = memberIndex == null ? null : superclass(memberIndex.fieldOwner(name));
+		if (owner == null) {
+			return null;
+		}
+		try {
+			field = makeAccessible(owner.getDeclaredField(name));
+		} catch (NoSuchFieldException e) {
+			// the index is out of date, let the full scan decide
+			return null;
+		}
+		Field existing = indexedFields.putIfAbsent(name, field);
+		return existing == null ? field : existing;
+	}
+
+	/**
+	 * Finds a method through the compile time index, only reflecting on the
+	 * class that declares it and the classes below it. The compiler can add
+	 * bridge methods to those, for example when an inherited method
+	 * implements a generic interface, which the index doesn't know about.
+	 *
+	 * @return The method or {@code null} if the index doesn't know it
+	 */
+	private Method indexedMethod(String name) {
+		Method method = indexedMethods.get(name);
+		if (method != null) {
+			return method;
+		}
+		MemberIndex memberIndex = memberIndex();
+		Class<?> owner = memberIndex == null ? null : superclass(memberIndex.methodOwner(name));
+		if (owner == null) {
+			return null;
+		}
+		for (Class<?> c = type; c != owner; c = c.getSuperclass()) {
+			for (Method m : c.getDeclaredMethods()) {
+				if (m.getName().equals(name)) {
+					// a bridge, let the full scan pick like it does without
+					// an index
+					return null;
+				}
+			}
+		}
+		for (Method m : owner.getDeclaredMethods()) {
+			if (m.getName().equals(name) && (method == null || compareOverloads(m, method) < 0)) {
+				method = m;
+			}
+		}
+		if (method == null) {
+			return null;
+		}
+		Method existing = indexedMethods.putIfAbsent(name, makeAccessible(method));
+		return existing == null ? method : existing;
+	}
+
+	/**
+	 * @return The class or superclass with the given binary name, or
+	 *         {@code null} if there is none
+	 */
+	private Class<?> superclass(String binaryName) {
+		if (binaryName == null) {
+			return null;
+		}
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			if (c.getName().equals(binaryName)) {
+				return c;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param method
+	 *            An accessible method declared by this class
+	 * @return The shared invoker of the method
+	 */
+	MethodInvoker invoker(Method method) {
+		MethodInvoker invoker = methodInvokers.get(method);
+		if (invoker == null) {
+			invoker = new MethodInvoker(method);
+			MethodInvoker existing = methodInvokers.putIfAbsent(method, invoker);
+			if (existing != null) {
+				invoker = existing;
+			}
+		}
+		return invoker;
+	}
+
+	/**
+	 * @param field
+	 *            An accessible field declared by this class
+	 * @return The shared accessor of the field
+	 */
+	FieldAccessor accessor(Field field) {
+		FieldAccessor accessor = fieldAccessors.get(field);
+		if (accessor == null) {
+			accessor = new FieldAccessor(field);
+			FieldAccessor existing = fieldAccessors.putIfAbsent(field, accessor);
+			if (existing != null) {
+				accessor = existing;
+			}
+		}
+		return accessor;
+	}
+
+	/**
+	 * @param constructor
+	 *            An accessible constructor declared by this class
+	 * @return The shared invoker of the constructor
+	 */
+	ConstructorInvoker invoker(Constructor<?> constructor) {
+		ConstructorInvoker invoker = constructorInvokers.get(constructor);
+		if (invoker == null) {
+			invoker = new ConstructorInvoker(constructor);
+			ConstructorInvoker existing = constructorInvokers.putIfAbsent(constructor, invoker);
+			if (existing != null) {
+				invoker = existing;
+			}
+		}
+		return invoker;
+	}
+
+	/**
+	 * @return The shared plan to convert instances of this class to and from
+	 *         maps
+	 */
+	MapPlan mapPlan() {
+		MapPlan result = mapPlan;
+		if (result == null) {
+			mapPlan = result = new MapPlan(type);
+		}
+		return result;
+	}
+
+	/**
+	 * @return The shared plan to compare, hash and print instances of this
+	 *         class using all of their fields
+	 */
+	FieldPlan fieldPlan() {
+		FieldPlan result = fieldPlan;
+		if (result == null) {
+			fieldPlan = result = new FieldPlan(type, null);
+		}
+		return result;
+	}
+
+	/**
+	 * @return The shared index based access to the members of this class
+	 */
+	ClassAccess classAccess() {
+		ClassAccess result = classAccess;
+		if (result == null) {
+			classAccess = result = new ClassAccess(this);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the copier between two classes. It is kept in the metadata of the
+	 * class whose loader already sees the other class, so caching it never
+	 * keeps a class loader alive. Copiers between classes of unrelated
+	 * loaders aren't cached.
+	 *
+	 * @param sourceType
+	 *            The class to copy fields from
+	 * @param targetType
+	 *            The class to copy fields to
+	 * @return The copier between the classes
+	 */
+	static Copier copier(Class<?> sourceType, Class<?> targetType) {
+		if (canReference(sourceType, targetType)) {
+			return copier(forClass(sourceType).copiers, targetType, sourceType, targetType);
+		}
+		if (canReference(targetType, sourceType)) {
+			return copier(forClass(targetType).copiersTo, sourceType, sourceType, targetType);
+		}
+		return new Copier(sourceType, targetType);
+	}
+
+	private static Copier copier(ConcurrentMap<Class<?>, Copier> copiers, Class<?> key, Class<?> sourceType,
+			Class<?> targetType) {
+		Copier copier = copiers.get(key);
+		if (copier == null) {
+			copier = new Copier(sourceType, targetType);
+			Copier existing = copiers.putIfAbsent(key, copier);
+			if (existing != null) {
+				copier = existing;
+			}
+		}
+		return copier;
+	}
+
+	/**
+	 * @return true if the other class is loaded by the loader of the class or
+	 *         one of its parents, so referencing it from the class's metadata
+	 *         keeps no loader alive that the class itself doesn't
+	 */
+	static boolean canReference(Class<?> type, Class<?> other) {
+		ClassLoader otherLoader = other.getClassLoader();
+		if (otherLoader == null) {
+			return true;
+		}
+		try {
+			for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+				if (loader == otherLoader) {
+					return true;
+				}
+			}
+		} catch (SecurityException e) {
+			// a parent can't be inspected, assume it isn't related
+		}
+		return false;
+	}
+
+	/**
+	 * @param field
+	 *            An accessible field declared by this class
+	 * @return The shared engine access of the field
+	 */
+	FieldAccess fieldAccess(Field field) {
+		FieldAccess access = fieldAccesses.get(field);
+		if (access == null) {
+			access = Engines.create(field);
+			FieldAccess existing = fieldAccesses.putIfAbsent(field, access);
+			if (existing != null) {
+				access = existing;
+			}
+		}
+		return access;
+	}
+
+	/**
+	 * @param method
+	 *            An accessible method declared by this class
+	 * @return The shared engine access of the method
+	 */
+	MethodAccess methodAccess(Method method) {
+		MethodAccess access = methodAccesses.get(method);
+		if (access == null) {
+			access = Engines.create(method);
+			MethodAccess existing = methodAccesses.putIfAbsent(method, access);
+			if (existing != null) {
+				access = existing;
+			}
+		}
+		return access;
+	}
+
+	/**
+	 * @param constructor
+	 *            An accessible constructor declared by this class
+	 * @return The shared engine access of the constructor
+	 */
+	ConstructorAccess constructorAccess(Constructor<?> constructor) {
+		ConstructorAccess access = constructorAccesses.get(constructor);
+		if (access == null) {
+			access = Engines.create(constructor);
+			ConstructorAccess existing = constructorAccesses.putIfAbsent(constructor, access);
+			if (existing != null) {
+				access = existing;
+			}
+		}
+		return access;
+	}
+
+	/**
+	 * @return The constructor without parameters or {@code null} if the class
+	 *         doesn't declare one
+	 */
+	Constructor<?> defaultConstructor() {
+		// building the index publishes defaultConstructor
+		constructorIndex();
+		return defaultConstructor;
+	}
+
+	/**
+	 * Finds the constructor with exactly the given parameter types. If there
+	 * is none, the most specific constructor the types can be passed to is
+	 * returned instead, allowing boxing, unboxing, widening and subtyping.
+	 *
+	 * @param parameterTypes
+	 *            The parameter types, {@code null} elements match any
+	 *            reference type
+	 * @return The matching constructor or {@code null} if there is none
+	 */
+	Constructor<?> constructor(Class<?>[] parameterTypes) {
+		List<Class<?>> signature = Arrays.<Class<?>> asList(parameterTypes);
+		Constructor<?> constructor = constructorIndex().get(signature);
+		if (constructor == null) {
+			synchronized (resolvedConstructors) {
+				constructor = resolvedConstructors.get(signature);
+			}
+			if (MetricsRegistry.ENABLED) {
+				MetricsRegistry.cache(MetricsRegistry.SIGNATURES, constructor != null);
+			}
+		}
+		if (constructor == null) {
+			Constructor<?>[] candidates = constructors();
+			Class<?>[][] candidateTypes = new Class<?>[candidates.length][];
+			for (int i = 0; i < candidates.length; i++) {
+				candidateTypes[i] = candidates[i].getParameterTypes();
+			}
+			int index = Signatures.mostSpecific(candidateTypes, parameterTypes);
+			if (index == -1) {
+				return null;
+			}
+			constructor = candidates[index];
+			if (canReferenceAll(parameterTypes)) {
+				synchronized (resolvedConstructors) {
+					// copy the key, the caller still owns the array
+					resolvedConstructors.put(new ArrayList<Class<?>>(signature), constructor);
+				}
+			}
+		}
+		return constructor;
+	}
+
+	private Map<List<Class<?>>, Constructor<?>> constructorIndex() {
+		Map<List<Class<?>>, Constructor<?>> index = constructorsBySignature;
+		if (index == null) {
+			index = new HashMap<List<Class<?>>, Constructor<?>>();
+			for (Constructor<?> c : constructors()) {
+				index.put(Arrays.<Class<?>> asList(c.getParameterTypes()), c);
+				if (c.getParameterTypes().length == 0) {
+					defaultConstructor = c;
+				}
+			}
+			constructorsBySignature = index = Collections.unmodifiableMap(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Orders overloads declared by the same class: real methods before
+	 * bridge and synthetic ones, then by number of parameters and the names
+	 * of the parameter types
+	 */
+	static int compareOverloads(Method a, Method b) {
+		// the real method wins over a bridge or synthetic method, whatever
+		// the names of their types
+		boolean aGenerated = a.isBridge() || a.isSynthetic();
+		boolean bGenerated = b.isBridge() || b.isSynthetic();
+		if (aGenerated != bGenerated) {
+			return aGenerated ? 1 : -1;
+		}
+		Class<?>[] aParams = a.getParameterTypes();
+		Class<?>[] bParams = b.getParameterTypes();
+		if (aParams.length != bParams.length) {
+			return aParams.length < bParams.length ? -1 : 1;
+		}
+		for (int i = 0; i < aParams.length; i++) {
+			int c = aParams[i].getName().compareTo(bParams[i].getName());
+			if (c != 0) {
+				return c;
+			}
+		}
+		// only the return type is left, which differs for bridge methods
+		return a.getReturnType().getName().compareTo(b.getReturnType().getName());
+	}
+
+	/**
+	 * @return true if every non null type can be kept by this class's
+	 *         metadata, see {@link #canReference(Class, Class)}
+	 */
+	private boolean canReferenceAll(Class<?>[] types) {
+		for (Class<?> t : types) {
+			if (t != null && !canReference(type, t)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return A map that drops its least recently used entry once it holds
+	 *         more than the given number of entries. It isn't synchronized.
+	 */
+	private static <K, V> Map<K, V> lru(final int capacity) {
+		return new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	private static <T extends AccessibleObject> T makeAccessible(T member) {
+		try {
+			member.setAccessible(true);
+		} catch (RuntimeException e) {
+			// a security manager or module boundary refused access, the member
+			// is still listed but behaves like a non accessible one
+		}
+		return member;
+	}
+
+	/**
+	 * The methods sharing a name, with their parameter types
+	 */
+	private static final class Overloads {
+		final Method[] methods;
+		final Class<?>[][] parameterTypes;
+
+		Overloads(Collection<Method> methods) {
+			this.methods = methods.toArray(new Method[methods.size()]);
+			this.parameterTypes = new Class<?>[this.methods.length][];
+			for (int i = 0; i < this.methods.length; i++) {
+				parameterTypes[i] = this.methods[i].getParameterTypes();
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invokes a single constructor for an {@link AccessEngine}.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public abstract class ConstructorAccess {
+
+	private final Constructor<?> constructor;
+
+	protected ConstructorAccess(Constructor<?> constructor) {
+		this.constructor = constructor;
+	}
+
+	/**
+	 * @return The constructor that is invoked
+	 */
+	public final Constructor<?> getConstructor() {
+		return constructor;
+	}
+
+	/**
+	 * Creates a new instance, see {@link Constructor#newInstance(Object...)}
+	 * 
+	 * @param params
+	 *            The parameters to invoke the constructor with
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             if the class is abstract
+	 * @throws IllegalArgumentException
+	 *             if the parameters don't match the constructor
+	 * @throws InvocationTargetException
+	 *             if the constructor throws an exception
+	 * @throws IllegalAccessException
+	 *             if the constructor is not accessible
+	 */
+	public abstract Object newInstance(Object[] params)
+			throws InstantiationException, IllegalArgumentException, InvocationTargetException, IllegalAccessException;
+}
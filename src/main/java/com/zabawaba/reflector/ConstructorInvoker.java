@@ -0,0 +1,121 @@
+package com.zabawaba.reflector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates instances through a {@link MethodHandle} of a {@link Constructor}
+ * that is created once and reused. Default constructors are called without
+ * spreading an argument array. When no handle can be created, or the
+ * arguments need more than unboxing to match the parameters,
+ * {@link Constructor#newInstance(Object...)} is used instead.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class ConstructorInvoker extends ConstructorAccess {
+
+	private final Class<?>[] parameterTypes;
+	private final Class<?>[] wrappedTypes;
+
+	// ()Object for default constructors, (Object[])Object otherwise. null if
+	// the constructor can only be invoked through reflection
+	private final MethodHandle handle;
+
+	ConstructorInvoker(Constructor<?> constructor) {
+		super(constructor);
+		this.parameterTypes = constructor.getParameterTypes();
+		this.wrappedTypes = Handles.wrap(parameterTypes);
+		this.handle = createHandle(constructor, parameterTypes.length);
+	}
+
+	/**
+	 * Gets the invoker for the given constructor. Invokers of accessible
+	 * constructors are shared through the {@link ClassMetadata} of the
+	 * declaring class.
+	 *
+	 * @param constructor
+	 *            The constructor to invoke
+	 * @return The invoker for the constructor
+	 */
+	static ConstructorInvoker forConstructor(Constructor<?> constructor) {
+		if (!constructor.isAccessible()) {
+			// a shared invoker could skip the access checks this constructor
+			// instance is subject to
+			return new ConstructorInvoker(constructor);
+		}
+		return ClassMetadata.forClass(constructor.getDeclaringClass()).invoker(constructor);
+	}
+
+	/**
+	 * @return true if the constructor is invoked through a
+	 *         {@link MethodHandle}
+	 */
+	boolean hasHandle() {
+		return handle != null;
+	}
+
+	/**
+	 * Creates a new instance, see {@link Constructor#newInstance(Object...)}
+	 *
+	 * @param params
+	 *            The parameters to invoke the constructor with
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             if the class is abstract
+	 * @throws IllegalArgumentException
+	 *             if the parameters don't match the constructor
+	 * @throws InvocationTargetException
+	 *             if the constructor throws an exception
+	 * @throws IllegalAccessException
+	 *             if the constructor is not accessible
+	 */
+	@Override
+	public Object newInstance(Object[] params)
+			throws InstantiationException, IllegalArgumentException, InvocationTargetException, IllegalAccessException {
+		if (handle == null) {
+			return getConstructor().newInstance(params);
+		}
+		if (parameterTypes.length == 0 && (params == null || params.length == 0)) {
+			try {
+				return handle.invokeExact();
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+		if (!Handles.accepts(parameterTypes, wrappedTypes, params)) {
+			return getConstructor().newInstance(params);
+		}
+		try {
+			return handle.invokeExact(params);
+		} catch (Throwable t) {
+			// the arguments were checked, so this came from the constructor
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	private static MethodHandle createHandle(Constructor<?> constructor, int arity) {
+		Class<?> type = constructor.getDeclaringClass();
+		if (Modifier.isAbstract(type.getModifiers()) || type.isEnum()) {
+			// let reflection throw the InstantiationException, or refuse to
+			// create enum constants
+			return null;
+		}
+		try {
+			MethodHandle handle = Handles.LOOKUP.unreflectConstructor(constructor);
+			handle = handle.asType(MethodType.genericMethodType(arity));
+			if (arity == 0) {
+				return handle;
+			}
+			return handle.asSpreader(Object[].class, arity);
+		} catch (IllegalAccessException e) {
+			return null;
+		} catch (RuntimeException e) {
+			// e.g. too many parameters for a handle
+			return null;
+		}
+	}
+}
@@ -1,7 +1,6 @@
 package com.zabawaba.reflector;
 
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
 import java.util.HashSet;
 
 /**
@@ -18,9 +17,11 @@ public class Constructors {
 		}
 	};
 
+	private Class<?> type;
 	private Object obj;
 
-	private Constructors(Object obj) {
+	private Constructors(Class<?> type, Object obj) {
+		this.type = type;
 		this.obj = obj;
 	}
 
@@ -31,29 +32,37 @@ public class Constructors {
 	 *             If no default constructor is declared on the class.
 	 */
 	public ReflectorConstructor get() throws NoSuchMethodException {
-		return get(new Class[0]);
+		Object event = Events.beginLookup();
+		Constructor<?> constructor = ClassMetadata.forClass(type).defaultConstructor();
+		Events.endLookup(event, type, "constructor", "<init>", null, constructor == null ? 0 : 1);
+		if (constructor == null) {
+			throw new NoSuchMethodException("<init>");
+		}
+		return new ReflectorConstructor(obj, constructor);
 	}
 
 	/**
 	 * Finds a constructor that matches the specified parameterTypes. Private, public and package proected
-	 * constructors will be returned.
+	 * constructors will be returned. If no constructor declares exactly these parameter types, the most
+	 * specific constructor that accepts them is returned, the same way the compiler would pick one.
 	 *
-	 * @param parameterTypes the parameter types for the constructor to find.
+	 * @param parameterTypes the parameter types for the constructor to find. A {@code null} type stands
+	 * 				for a {@code null} argument and matches any reference type.
 	 * @return the constructor object that matches the specified parameterTypes
 	 * @throws NoSuchMethodException
 	 * 				If there is no constructor with the given parameter list.
 	 */
 	public ReflectorConstructor get(Class<?>... parameterTypes) throws NoSuchMethodException {
-		ReflectorConstructor constructor = null;
-		for (ReflectorConstructor c : list()) {
-			if (Arrays.deepEquals(parameterTypes, c.getConstructor().getParameterTypes())) {
-				constructor = c;
-			}
+		if (parameterTypes == null) {
+			parameterTypes = new Class<?>[0];
 		}
+		Object event = Events.beginLookup();
+		Constructor<?> constructor = ClassMetadata.forClass(type).constructor(parameterTypes);
+		Events.endLookup(event, type, "constructor", "<init>", null, constructor == null ? 0 : 1);
 		if (constructor == null) {
 			throw new NoSuchMethodException("<init>");
 		}
-		return constructor;
+		return new ReflectorConstructor(obj, constructor);
 	}
 
 	/**
@@ -78,21 +87,70 @@ public class Constructors {
 	 *         filtering criteria
 	 */
 	public HashSet<ReflectorConstructor> list(Filter<Constructor<?>> filter) {
+		Object event = Events.beginLookup();
+		Filter<Constructor<?>> requested = filter;
 		HashSet<ReflectorConstructor> constructors = new HashSet<ReflectorConstructor>();
 
 		if (filter == null) {
 			filter = ALL_CONSTRUCTORS;
 		}
 
-		for (Constructor<?> c : obj.getClass().getDeclaredConstructors()) {
-			c.setAccessible(true);
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		Constructor<?>[] candidates = metadata.constructors();
+		if (filter instanceof MemoizedFilter) {
+			// memoized results are already filtered
+			candidates = metadata.select(candidates, filter);
+			filter = ALL_CONSTRUCTORS;
+		}
+
+		for (Constructor<?> c : candidates) {
 			if (filter.apply(c)) {
 				constructors.add(new ReflectorConstructor(obj, c));
 			}
 		}
+		Events.endLookup(event, type, "constructor", null, requested, constructors.size());
 		return constructors;
 	}
 
+	/**
+	 * Lazily iterates over the {@link Constructor}s for the given class
+	 * where {@link Filter#apply(Object)} returns true. The filter is applied
+	 * as the iteration advances and a {@link ReflectorConstructor} is only created for
+	 * the constructors that are returned, so stopping early skips the remaining work.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a constructor is
+	 *            returned. If {@code null} all constructors will be returned.
+	 * @return An {@link Iterable} over the constructors that meet the filtering
+	 *         criteria
+	 */
+	public Iterable<ReflectorConstructor> iterate(Filter<Constructor<?>> filter) {
+		final Object target = obj;
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		return new FilteredIterable<Constructor<?>, ReflectorConstructor>(metadata, metadata.constructors(), filter) {
+			@Override
+			ReflectorConstructor wrap(Constructor<?> constructor) {
+				return new ReflectorConstructor(target, constructor);
+			}
+		};
+	}
+
+	/**
+	 * Passes the {@link Constructor}s for the given class where
+	 * {@link Filter#apply(Object)} returns true to the visitor, until the
+	 * visitor returns false. No wrappers or collections are created.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a constructor is
+	 *            visited. If {@code null} all constructors will be visited.
+	 * @param visitor
+	 *            The visitor to pass the constructors to
+	 */
+	public void forEach(Filter<Constructor<?>> filter, Visitor<Constructor<?>> visitor) {
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		FilteredIterable.visit(metadata, metadata.constructors(), filter, visitor);
+	}
+
 	/**
 	 * Builds a new Constructors object with the context of the object given
 	 *
@@ -101,6 +159,18 @@ public class Constructors {
 	 * @return A newly created Constructors object
 	 */
 	public static Constructors forObj(Object obj) {
-		return new Constructors(obj);
+		return new Constructors(obj.getClass(), obj);
+	}
+
+	/**
+	 * Builds a new Constructors object with the context of a class, so its
+	 * constructors can be resolved without an instance at hand
+	 *
+	 * @param type
+	 *            The class whos constructors you want to Reflect over
+	 * @return A newly created Constructors object
+	 */
+	public static Constructors forClass(Class<?> type) {
+		return new Constructors(type, null);
 	}
 }
@@ -0,0 +1,173 @@
+package com.zabawaba.reflector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Copies the fields of one class into the fields with the same name of
+ * another class. The fields to copy are matched once per pair of classes:
+ * every non static, non final field of the target class is copied from the
+ * source field with the same name if its value can be stored without any
+ * conversion other than a widening reference conversion. Shadowed fields are
+ * matched like {@link Fields#get(String)} does.
+ * <p>
+ * Each field is copied by a getter {@link MethodHandle} composed into a
+ * setter, so primitive values are never boxed.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class Copier {
+
+	private final Class<?> sourceType;
+	private final Class<?> targetType;
+	private final Step[] steps;
+	private final List<String> fieldNames;
+
+	Copier(Class<?> sourceType, Class<?> targetType) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+
+		ClassMetadata source = ClassMetadata.forClass(sourceType);
+		List<Step> steps = new ArrayList<Step>();
+		List<String> names = new ArrayList<String>();
+		Set<String> seen = new HashSet<String>();
+		for (Field to : ClassMetadata.forClass(targetType).fields()) {
+			// fields are ordered subclass first, only the closest one is copied
+			if (!seen.add(to.getName()) || !isInstanceField(to) || Modifier.isFinal(to.getModifiers())) {
+				continue;
+			}
+			Field from = source.field(to.getName());
+			if (from != null && isInstanceField(from) && isCopyable(from.getType(), to.getType())) {
+				steps.add(new Step(from, to));
+				names.add(to.getName());
+			}
+		}
+		this.steps = steps.toArray(new Step[steps.size()]);
+		this.fieldNames = Collections.unmodifiableList(names);
+	}
+
+	/**
+	 * Gets the copier between two classes. Copiers are created once per pair
+	 * and shared, unless the classes come from unrelated class loaders.
+	 * 
+	 * @param sourceType
+	 *            The class to copy fields from
+	 * @param targetType
+	 *            The class to copy fields to
+	 * @return The copier between the classes
+	 */
+	public static Copier between(Class<?> sourceType, Class<?> targetType) {
+		return ClassMetadata.copier(sourceType, targetType);
+	}
+
+	/**
+	 * @return The class fields are copied from
+	 */
+	public Class<?> getSourceType() {
+		return sourceType;
+	}
+
+	/**
+	 * @return The class fields are copied to
+	 */
+	public Class<?> getTargetType() {
+		return targetType;
+	}
+
+	/**
+	 * @return The names of the fields that are copied
+	 */
+	public List<String> getFieldNames() {
+		return fieldNames;
+	}
+
+	/**
+	 * Copies the matching fields of the source into the target.
+	 * 
+	 * @param source
+	 *            The object to copy fields from
+	 * @param target
+	 *            The object to copy fields to
+	 * @return The target
+	 * @throws IllegalArgumentException
+	 *             if the source or the target isn't an instance of the
+	 *             copier's classes
+	 * @throws IllegalAccessException
+	 *             if a field can't be read or written
+	 */
+	public <T> T copy(Object source, T target) throws IllegalArgumentException, IllegalAccessException {
+		if (!sourceType.isInstance(source)) {
+			throw new IllegalArgumentException("source is not an instance of " + sourceType.getName());
+		}
+		if (!targetType.isInstance(target)) {
+			throw new IllegalArgumentException("target is not an instance of " + targetType.getName());
+		}
+		for (Step step : steps) {
+			step.copy(source, target);
+		}
+		return target;
+	}
+
+	private static boolean isInstanceField(Field field) {
+		return !Modifier.isStatic(field.getModifiers());
+	}
+
+	private static boolean isCopyable(Class<?> from, Class<?> to) {
+		return from == to || !from.isPrimitive() && !to.isPrimitive() && to.isAssignableFrom(from);
+	}
+
+	/**
+	 * Copies a single field
+	 */
+	private static final class Step {
+		private final Field from;
+		private final Field to;
+
+		// (Object target, Object source)void, null if either field can only
+		// be accessed through reflection
+		private final MethodHandle handle;
+
+		Step(Field from, Field to) {
+			this.from = from;
+			this.to = to;
+			this.handle = createHandle(from, to);
+		}
+
+		void copy(Object source, Object target) throws IllegalAccessException {
+			if (handle == null) {
+				to.set(target, from.get(source));
+				return;
+			}
+			try {
+				handle.invokeExact(target, source);
+			} catch (Throwable t) {
+				throw Handles.unchecked(t);
+			}
+		}
+
+		private static MethodHandle createHandle(Field from, Field to) {
+			if (!from.isAccessible() || !to.isAccessible()) {
+				return null;
+			}
+			try {
+				Class<?> type = from.getType();
+				MethodHandle getter = Handles.LOOKUP.unreflectGetter(from)
+						.asType(MethodType.methodType(type, Object.class));
+				MethodHandle setter = Handles.LOOKUP.unreflectSetter(to)
+						.asType(MethodType.methodType(void.class, Object.class, type));
+				return MethodHandles.filterArguments(setter, 1, getter);
+			} catch (IllegalAccessException e) {
+				return null;
+			}
+		}
+	}
+}
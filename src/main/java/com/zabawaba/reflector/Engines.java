@@ -0,0 +1,381 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+/**
+ * Picks the {@link AccessEngine} for each member, see {@link AccessEngine}
+ * for the policy.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class Engines {
+
+	static final String ENGINE_PROPERTY = "reflector.engine";
+	static final String THRESHOLD_PROPERTY = "reflector.promotionThreshold";
+	static final int DEFAULT_THRESHOLD = 32;
+
+	static final AccessEngine REFLECTION = new ReflectionEngine();
+
+	// highest priority first
+	private static final List<AccessEngine> ENGINES = load();
+	private static final AccessEngine FORCED = forced(System.getProperty(ENGINE_PROPERTY));
+	private static final int THRESHOLD = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+
+	private Engines() {
+	}
+
+	/**
+	 * @return The available engines, highest priority first
+	 */
+	static List<AccessEngine> engines() {
+		return ENGINES;
+	}
+
+	/**
+	 * @param name
+	 *            The name of an engine
+	 * @return The engine with the given name, or {@code null} if there is
+	 *         none
+	 */
+	static AccessEngine find(String name) {
+		for (AccessEngine engine : ENGINES) {
+			if (engine.getName().equals(name)) {
+				return engine;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * An unknown name is logged and ignored, so a mistyped property doesn't
+	 * take the whole library down with it.
+	 * 
+	 * @param name
+	 *            The value of the {@code reflector.engine} property
+	 * @return The engine to use for every member, or {@code null} to promote
+	 *         members as usual
+	 */
+	static AccessEngine forced(String name) {
+		if (name == null) {
+			return null;
+		}
+		AccessEngine engine = find(name);
+		if (engine == null) {
+			List<String> names = new ArrayList<String>();
+			for (AccessEngine e : ENGINES) {
+				names.add(e.getName());
+			}
+			Logger.getLogger(Engines.class.getName()).warning("Unknown " + ENGINE_PROPERTY + " '" + name
+					+ "', expected one of " + names + ", promoting members as usual");
+		}
+		return engine;
+	}
+
+	private static List<AccessEngine> load() {
+		List<AccessEngine> engines = new ArrayList<AccessEngine>();
+		engines.add(REFLECTION);
+		engines.add(new MethodHandleEngine());
+		Iterator<AccessEngine> it = ServiceLoader.load(AccessEngine.class, AccessEngine.class.getClassLoader())
+				.iterator();
+		while (true) {
+			try {
+				if (!it.hasNext()) {
+					break;
+				}
+				engines.add(it.next());
+			} catch (ServiceConfigurationError e) {
+				// skip engines that can't be loaded
+			}
+		}
+		Collections.sort(engines, new Comparator<AccessEngine>() {
+			@Override
+			public int compare(AccessEngine a, AccessEngine b) {
+				return a.getPriority() > b.getPriority() ? -1 : a.getPriority() < b.getPriority() ? 1 : 0;
+			}
+		});
+		return Collections.unmodifiableList(engines);
+	}
+
+	/**
+	 * Gets the access to a field. The access to accessible fields is shared
+	 * through the {@link ClassMetadata} of the declaring class, so calls made
+	 * through any wrapper count towards promotion.
+	 */
+	static FieldAccess forField(Field field) {
+		if (!field.isAccessible()) {
+			return create(field);
+		}
+		return ClassMetadata.forClass(field.getDeclaringClass()).fieldAccess(field);
+	}
+
+	/**
+	 * Gets the access to a method, see {@link #forField(Field)}
+	 */
+	static MethodAccess forMethod(Method method) {
+		if (!method.isAccessible()) {
+			return create(method);
+		}
+		return ClassMetadata.forClass(method.getDeclaringClass()).methodAccess(method);
+	}
+
+	/**
+	 * Gets the access to a constructor, see {@link #forField(Field)}
+	 */
+	static ConstructorAccess forConstructor(Constructor<?> constructor) {
+		if (!constructor.isAccessible()) {
+			return create(constructor);
+		}
+		return ClassMetadata.forClass(constructor.getDeclaringClass()).constructorAccess(constructor);
+	}
+
+	/**
+	 * Creates a new access to a field, which records metrics when
+	 * {@link ReflectorMetrics#isEnabled()}
+	 */
+	static FieldAccess create(Field field) {
+		return MetricsRegistry.measure(choose(field));
+	}
+
+	private static FieldAccess choose(Field field) {
+		if (FORCED != null) {
+			FieldAccess access = FORCED.forField(field);
+			return access != null ? access : REFLECTION.forField(field);
+		}
+		return THRESHOLD <= 0 ? fastest(field) : new PromotingFieldAccess(field, THRESHOLD);
+	}
+
+	static MethodAccess create(Method method) {
+		return MetricsRegistry.measure(choose(method));
+	}
+
+	private static MethodAccess choose(Method method) {
+		if (FORCED != null) {
+			MethodAccess access = FORCED.forMethod(method);
+			return access != null ? access : REFLECTION.forMethod(method);
+		}
+		return THRESHOLD <= 0 ? fastest(method) : new PromotingMethodAccess(method, THRESHOLD);
+	}
+
+	static ConstructorAccess create(Constructor<?> constructor) {
+		return MetricsRegistry.measure(choose(constructor));
+	}
+
+	private static ConstructorAccess choose(Constructor<?> constructor) {
+		if (FORCED != null) {
+			ConstructorAccess access = FORCED.forConstructor(constructor);
+			return access != null ? access : REFLECTION.forConstructor(constructor);
+		}
+		return THRESHOLD <= 0 ? fastest(constructor) : new PromotingConstructorAccess(constructor, THRESHOLD);
+	}
+
+	static FieldAccess fastest(Field field) {
+		for (AccessEngine engine : ENGINES) {
+			FieldAccess access = engine.forField(field);
+			if (access != null) {
+				return access;
+			}
+		}
+		return REFLECTION.forField(field);
+	}
+
+	static MethodAccess fastest(Method method) {
+		for (AccessEngine engine : ENGINES) {
+			MethodAccess access = engine.forMethod(method);
+			if (access != null) {
+				return access;
+			}
+		}
+		return REFLECTION.forMethod(method);
+	}
+
+	static ConstructorAccess fastest(Constructor<?> constructor) {
+		for (AccessEngine engine : ENGINES) {
+			ConstructorAccess access = engine.forConstructor(constructor);
+			if (access != null) {
+				return access;
+			}
+		}
+		return REFLECTION.forConstructor(constructor);
+	}
+
+	/**
+	 * Uses reflection until the field has been accessed often enough, then
+	 * the fastest engine. The call count is not synchronized, so it may be
+	 * off by a few calls under contention.
+	 */
+	static final class PromotingFieldAccess extends FieldAccess {
+		private final FieldAccess initial;
+		private final int threshold;
+		private int calls;
+		private volatile FieldAccess promoted;
+
+		PromotingFieldAccess(Field field, int threshold) {
+			super(field);
+			this.initial = REFLECTION.forField(field);
+			this.threshold = threshold;
+		}
+
+		boolean isPromoted() {
+			return promoted != null;
+		}
+
+		private FieldAccess current() {
+			FieldAccess access = promoted;
+			if (access != null) {
+				return access;
+			}
+			if (++calls < threshold) {
+				return initial;
+			}
+			promoted = access = fastest(getField());
+			return access;
+		}
+
+		@Override
+		public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+			return current().get(target);
+		}
+
+		@Override
+		public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+			current().set(target, value);
+		}
+
+		@Override
+		public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+			return current().getInt(target);
+		}
+
+		@Override
+		public void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException {
+			current().setInt(target, value);
+		}
+
+		@Override
+		public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+			return current().getLong(target);
+		}
+
+		@Override
+		public void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException {
+			current().setLong(target, value);
+		}
+
+		@Override
+		public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+			return current().getDouble(target);
+		}
+
+		@Override
+		public void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException {
+			current().setDouble(target, value);
+		}
+
+		@Override
+		public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+			return current().getBoolean(target);
+		}
+
+		@Override
+		public void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException {
+			current().setBoolean(target, value);
+		}
+	}
+
+	/**
+	 * Uses reflection until the method has been invoked often enough, see
+	 * {@link PromotingFieldAccess}. A batch counts as one call per target.
+	 */
+	static final class PromotingMethodAccess extends MethodAccess {
+		private final MethodAccess initial;
+		private final int threshold;
+		private int calls;
+		private volatile MethodAccess promoted;
+
+		PromotingMethodAccess(Method method, int threshold) {
+			super(method);
+			this.initial = REFLECTION.forMethod(method);
+			this.threshold = threshold;
+		}
+
+		boolean isPromoted() {
+			return promoted != null;
+		}
+
+		private MethodAccess current(int count) {
+			MethodAccess access = promoted;
+			if (access != null) {
+				return access;
+			}
+			calls += count;
+			if (calls < threshold) {
+				return initial;
+			}
+			promoted = access = fastest(getMethod());
+			return access;
+		}
+
+		@Override
+		public Object invoke(Object target, Object[] params)
+				throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+			return current(1).invoke(target, params);
+		}
+
+		@Override
+		void invokeAll(Object[] targets, int from, int to, Object[] params, Object[] results)
+				throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+			current(to - from).invokeAll(targets, from, to, params, results);
+		}
+	}
+
+	/**
+	 * Uses reflection until the constructor has been invoked often enough,
+	 * see {@link PromotingFieldAccess}
+	 */
+	static final class PromotingConstructorAccess extends ConstructorAccess {
+		private final ConstructorAccess initial;
+		private final int threshold;
+		private int calls;
+		private volatile ConstructorAccess promoted;
+
+		PromotingConstructorAccess(Constructor<?> constructor, int threshold) {
+			super(constructor);
+			this.initial = REFLECTION.forConstructor(constructor);
+			this.threshold = threshold;
+		}
+
+		boolean isPromoted() {
+			return promoted != null;
+		}
+
+		private ConstructorAccess current() {
+			ConstructorAccess access = promoted;
+			if (access != null) {
+				return access;
+			}
+			if (++calls < threshold) {
+				return initial;
+			}
+			promoted = access = fastest(getConstructor());
+			return access;
+		}
+
+		@Override
+		public Object newInstance(Object[] params) throws InstantiationException, IllegalArgumentException,
+				InvocationTargetException, IllegalAccessException {
+			return current().newInstance(params);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.zabawaba.reflector;
+
+/**
+ * Compares instances of a class field by field, see
+ * {@link Reflector#equalsPlan(Class, Filter)}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class EqualsPlan {
+
+	private final FieldPlan plan;
+
+	EqualsPlan(FieldPlan plan) {
+		this.plan = plan;
+	}
+
+	/**
+	 * @return The class this plan compares
+	 */
+	public Class<?> getType() {
+		return plan.getType();
+	}
+
+	/**
+	 * Compares two objects field by field
+	 * 
+	 * @param a
+	 *            An instance of the plan's class
+	 * @param b
+	 *            The object to compare it to
+	 * @return true if both objects are the same, or are instances of the
+	 *         exact same class whose compared fields are equal. Like
+	 *         {@link Object#equals(Object)}, false if only one of them is
+	 *         {@code null} or they aren't instances of the plan's class.
+	 */
+	public boolean equals(Object a, Object b) {
+		return plan.equal(a, b);
+	}
+}
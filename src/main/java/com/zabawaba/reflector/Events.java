@@ -0,0 +1,99 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Member;
+
+/**
+ * Emits the Java Flight Recorder events of the library. This class never
+ * touches {@code jdk.jfr} itself, the events live in {@link JfrEvents} which
+ * is only loaded when {@code jdk.jfr} is available, so the library keeps
+ * working on JVMs without it. Setting the {@code reflector.jfr} system
+ * property to false turns the events off.
+ * <p>
+ * Every {@code begin} method returns an opaque event, or {@code null} when
+ * the event isn't recorded, which is handed to the matching {@code end}
+ * method once the work is done.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class Events {
+
+	static final boolean ENABLED = available();
+
+	private Events() {
+	}
+
+	private static boolean available() {
+		if ("false".equals(System.getProperty("reflector.jfr"))) {
+			return false;
+		}
+		try {
+			Class.forName("jdk.jfr.Event", false, Events.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		} catch (LinkageError e) {
+			return false;
+		}
+	}
+
+	static Object beginScan() {
+		return ENABLED ? JfrEvents.beginScan() : null;
+	}
+
+	/**
+	 * @param event
+	 *            The result of {@link #beginScan()}
+	 * @param type
+	 *            The class that was scanned
+	 * @param kind
+	 *            {@code field}, {@code method} or {@code constructor}
+	 * @param memberCount
+	 *            The number of members that were found
+	 */
+	static void endScan(Object event, Class<?> type, String kind, int memberCount) {
+		if (event != null) {
+			JfrEvents.endScan(event, type, kind, memberCount);
+		}
+	}
+
+	static Object beginLookup() {
+		return ENABLED ? JfrEvents.beginLookup() : null;
+	}
+
+	/**
+	 * @param event
+	 *            The result of {@link #beginLookup()}
+	 * @param type
+	 *            The class the members were looked up in
+	 * @param kind
+	 *            {@code field}, {@code method} or {@code constructor}
+	 * @param name
+	 *            The name that was looked up, {@code null} when listing
+	 * @param filter
+	 *            The filter that was applied, {@code null} for none
+	 * @param resultCount
+	 *            The number of members that were found
+	 */
+	static void endLookup(Object event, Class<?> type, String kind, String name, Filter<?> filter, int resultCount) {
+		if (event != null) {
+			JfrEvents.endLookup(event, type, kind, name, filter, resultCount);
+		}
+	}
+
+	static Object beginInvocation() {
+		return ENABLED ? JfrEvents.beginInvocation() : null;
+	}
+
+	/**
+	 * @param event
+	 *            The result of {@link #beginInvocation()}
+	 * @param member
+	 *            The method or constructor that was invoked
+	 */
+	static void endInvocation(Object event, Member member) {
+		if (event != null) {
+			JfrEvents.endInvocation(event, member);
+		}
+	}
+}
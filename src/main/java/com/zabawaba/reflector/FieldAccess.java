@@ -0,0 +1,110 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a single field for an {@link AccessEngine}. The primitive
+ * accessors use the field itself unless they are overridden.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public abstract class FieldAccess {
+
+	private final Field field;
+
+	protected FieldAccess(Field field) {
+		this.field = field;
+	}
+
+	/**
+	 * @return The field that is accessed
+	 */
+	public final Field getField() {
+		return field;
+	}
+
+	/**
+	 * Reads the field, see {@link Field#get(Object)}
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public abstract Object get(Object target) throws IllegalArgumentException, IllegalAccessException;
+
+	/**
+	 * Writes the field, see {@link Field#set(Object, Object)}
+	 * 
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public abstract void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException;
+
+	/**
+	 * @see Field#getInt(Object)
+	 */
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return field.getInt(target);
+	}
+
+	/**
+	 * @see Field#setInt(Object, int)
+	 */
+	public void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException {
+		field.setInt(target, value);
+	}
+
+	/**
+	 * @see Field#getLong(Object)
+	 */
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return field.getLong(target);
+	}
+
+	/**
+	 * @see Field#setLong(Object, long)
+	 */
+	public void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException {
+		field.setLong(target, value);
+	}
+
+	/**
+	 * @see Field#getDouble(Object)
+	 */
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return field.getDouble(target);
+	}
+
+	/**
+	 * @see Field#setDouble(Object, double)
+	 */
+	public void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException {
+		field.setDouble(target, value);
+	}
+
+	/**
+	 * @see Field#getBoolean(Object)
+	 */
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return field.getBoolean(target);
+	}
+
+	/**
+	 * @see Field#setBoolean(Object, boolean)
+	 */
+	public void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException {
+		field.setBoolean(target, value);
+	}
+}
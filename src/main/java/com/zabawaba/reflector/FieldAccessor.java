@@ -0,0 +1,395 @@
+package com.zabawaba.reflector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads and writes a {@link Field} through getter and setter
+ * {@link MethodHandle}s that are created once and reused. Primitive fields
+ * also get primitive typed handles so they can be accessed without boxing.
+ * When a handle can't be created, or a value needs more than unboxing to be
+ * stored, the {@link Field} itself is used instead.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class FieldAccessor extends FieldAccess {
+
+	private final Class<?> wrappedType;
+	private final boolean isStatic;
+
+	// (Object)Object and (Object, Object)void, null if the field can only be
+	// accessed through reflection
+	private final MethodHandle getter;
+	private final MethodHandle setter;
+
+	// (Object)primitive and (Object, primitive)void, only set for primitive
+	// fields the primitive can be converted from or to without narrowing
+	private final MethodHandle intGetter;
+	private final MethodHandle longGetter;
+	private final MethodHandle doubleGetter;
+	private final MethodHandle booleanGetter;
+	private final MethodHandle intSetter;
+	private final MethodHandle longSetter;
+	private final MethodHandle doubleSetter;
+	private final MethodHandle booleanSetter;
+
+	FieldAccessor(Field field) {
+		super(field);
+		this.wrappedType = Handles.wrap(field.getType());
+		this.isStatic = Modifier.isStatic(field.getModifiers());
+
+		MethodHandle rawGetter = unreflectGetter(field);
+		MethodHandle rawSetter = unreflectSetter(field);
+		this.getter = adaptGetter(rawGetter, Object.class);
+		this.setter = adaptSetter(rawSetter, Object.class);
+
+		boolean primitive = field.getType().isPrimitive();
+		this.intGetter = primitive ? adaptGetter(rawGetter, int.class) : null;
+		this.longGetter = primitive ? adaptGetter(rawGetter, long.class) : null;
+		this.doubleGetter = primitive ? adaptGetter(rawGetter, double.class) : null;
+		this.booleanGetter = primitive ? adaptGetter(rawGetter, boolean.class) : null;
+		this.intSetter = primitive ? adaptSetter(rawSetter, int.class) : null;
+		this.longSetter = primitive ? adaptSetter(rawSetter, long.class) : null;
+		this.doubleSetter = primitive ? adaptSetter(rawSetter, double.class) : null;
+		this.booleanSetter = primitive ? adaptSetter(rawSetter, boolean.class) : null;
+	}
+
+	/**
+	 * Gets the accessor for the given field. Accessors of accessible fields
+	 * are shared through the {@link ClassMetadata} of the declaring class.
+	 *
+	 * @param field
+	 *            The field to access
+	 * @return The accessor for the field
+	 */
+	static FieldAccessor forField(Field field) {
+		if (!field.isAccessible()) {
+			// a shared accessor could skip the access checks this field
+			// instance is subject to
+			return new FieldAccessor(field);
+		}
+		return ClassMetadata.forClass(field.getDeclaringClass()).accessor(field);
+	}
+
+	/**
+	 * @return true if the field is read and written through
+	 *         {@link MethodHandle}s
+	 */
+	boolean hasHandles() {
+		return getter != null && setter != null;
+	}
+
+	/**
+	 * Reads the field, see {@link Field#get(Object)}
+	 *
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	@Override
+	public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+		if (getter == null || !accepts(target)) {
+			return getField().get(target);
+		}
+		try {
+			return getter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Writes the field, see {@link Field#set(Object, Object)}
+	 *
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	@Override
+	public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+		if (setter == null || !accepts(target)
+				|| (value == null ? getField().getType().isPrimitive() : !wrappedType.isInstance(value))) {
+			getField().set(target, value);
+			return;
+		}
+		try {
+			setter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Reads the field as a int, see {@link Field#getInt(Object)}
+	 *
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a int
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	@Override
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		if (intGetter == null || !accepts(target)) {
+			return getField().getInt(target);
+		}
+		try {
+			return (int) intGetter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Writes the field from a int, see {@link Field#setInt(Object, int)}
+	 *
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	@Override
+	public void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException {
+		if (intSetter == null || !accepts(target)) {
+			getField().setInt(target, value);
+			return;
+		}
+		try {
+			intSetter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Reads the field as a long, see {@link Field#getLong(Object)}
+	 *
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a long
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	@Override
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		if (longGetter == null || !accepts(target)) {
+			return getField().getLong(target);
+		}
+		try {
+			return (long) longGetter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Writes the field from a long, see {@link Field#setLong(Object, long)}
+	 *
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	@Override
+	public void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException {
+		if (longSetter == null || !accepts(target)) {
+			getField().setLong(target, value);
+			return;
+		}
+		try {
+			longSetter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Reads the field as a double, see {@link Field#getDouble(Object)}
+	 *
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a double
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	@Override
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		if (doubleGetter == null || !accepts(target)) {
+			return getField().getDouble(target);
+		}
+		try {
+			return (double) doubleGetter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Writes the field from a double, see {@link Field#setDouble(Object, double)}
+	 *
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	@Override
+	public void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException {
+		if (doubleSetter == null || !accepts(target)) {
+			getField().setDouble(target, value);
+			return;
+		}
+		try {
+			doubleSetter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Reads the field as a boolean, see {@link Field#getBoolean(Object)}
+	 *
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field can't
+	 *             be converted to a boolean
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	@Override
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		if (booleanGetter == null || !accepts(target)) {
+			return getField().getBoolean(target);
+		}
+		try {
+			return (boolean) booleanGetter.invokeExact(target);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	/**
+	 * Writes the field from a boolean, see {@link Field#setBoolean(Object, boolean)}
+	 *
+	 * @param target
+	 *            The object to write the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	@Override
+	public void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException {
+		if (booleanSetter == null || !accepts(target)) {
+			getField().setBoolean(target, value);
+			return;
+		}
+		try {
+			booleanSetter.invokeExact(target, value);
+		} catch (Throwable t) {
+			throw Handles.unchecked(t);
+		}
+	}
+
+	private boolean accepts(Object target) {
+		return isStatic || getField().getDeclaringClass().isInstance(target);
+	}
+
+	private static MethodHandle unreflectGetter(Field field) {
+		try {
+			return Handles.LOOKUP.unreflectGetter(field);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private static MethodHandle unreflectSetter(Field field) {
+		try {
+			return Handles.LOOKUP.unreflectSetter(field);
+		} catch (IllegalAccessException e) {
+			// final fields can't be written through a handle
+			return null;
+		}
+	}
+
+	/**
+	 * @return a (Object)type handle, or {@code null} if the field's value
+	 *         can't be converted to the type
+	 */
+	private MethodHandle adaptGetter(MethodHandle handle, Class<?> type) {
+		if (handle == null) {
+			return null;
+		}
+		try {
+			if (isStatic) {
+				handle = handle.asType(MethodType.methodType(type));
+				return MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(MethodType.methodType(type, Object.class));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return a (Object, type)void handle, or {@code null} if the type can't
+	 *         be converted to the field's type
+	 */
+	private MethodHandle adaptSetter(MethodHandle handle, Class<?> type) {
+		if (handle == null) {
+			return null;
+		}
+		try {
+			if (isStatic) {
+				handle = handle.asType(MethodType.methodType(void.class, type));
+				return MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(MethodType.methodType(void.class, Object.class, type));
+		} catch (WrongMethodTypeException e) {
+			return null;
+		}
+	}
+}
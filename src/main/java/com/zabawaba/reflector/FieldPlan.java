@@ -0,0 +1,261 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares, hashes and prints instances of a class field by field. The
+ * instance fields of the class, including shadowed ones, are collected once
+ * together with their accessors. Primitive fields are read through the
+ * primitive accessors so their values are never boxed, reference fields are
+ * compared with {@link Object#equals(Object)} and arrays by their contents.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class FieldPlan {
+
+	private static final int INT = 0;
+	private static final int LONG = 1;
+	private static final int DOUBLE = 2;
+	private static final int BOOLEAN = 3;
+	private static final int REFERENCE = 4;
+
+	private final Class<?> type;
+	private final String[] names;
+	private final FieldAccessor[] accessors;
+	private final int[] kinds;
+
+	FieldPlan(Class<?> type, Filter<Field> filter) {
+		this.type = type;
+
+		List<Field> fields = new ArrayList<Field>();
+		for (Field f : ClassMetadata.forClass(type).fields()) {
+			// synthetic fields such as this$0 would compare the outer instance
+			if (!Modifier.isStatic(f.getModifiers()) && !f.isSynthetic() && (filter == null || filter.apply(f))) {
+				fields.add(f);
+			}
+		}
+		this.names = new String[fields.size()];
+		this.accessors = new FieldAccessor[fields.size()];
+		this.kinds = new int[fields.size()];
+		for (int i = 0; i < names.length; i++) {
+			Field f = fields.get(i);
+			names[i] = f.getName();
+			accessors[i] = FieldAccessor.forField(f);
+			kinds[i] = kindOf(f.getType());
+		}
+	}
+
+	/**
+	 * @return The class this plan is for
+	 */
+	Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * @return The number of fields in the plan
+	 */
+	int size() {
+		return names.length;
+	}
+
+	/**
+	 * Follows {@link Object#equals(Object)}, objects that are {@code null}
+	 * or not instances of the plan's class are never equal to anything else
+	 * 
+	 * @return true if both objects are the same, or are instances of the
+	 *         exact same class with equal fields
+	 */
+	boolean equal(Object a, Object b) {
+		if (a == b) {
+			return true;
+		}
+		if (a == null || b == null || a.getClass() != b.getClass() || !type.isInstance(a)) {
+			return false;
+		}
+		try {
+			for (int i = 0; i < kinds.length; i++) {
+				FieldAccessor accessor = accessors[i];
+				switch (kinds[i]) {
+				case INT:
+					if (accessor.getInt(a) != accessor.getInt(b)) {
+						return false;
+					}
+					break;
+				case LONG:
+					if (accessor.getLong(a) != accessor.getLong(b)) {
+						return false;
+					}
+					break;
+				case DOUBLE:
+					// same as Double.equals, NaN equals NaN and 0.0 doesn't
+					// equal -0.0
+					if (Double.doubleToLongBits(accessor.getDouble(a)) != Double
+							.doubleToLongBits(accessor.getDouble(b))) {
+						return false;
+					}
+					break;
+				case BOOLEAN:
+					if (accessor.getBoolean(a) != accessor.getBoolean(b)) {
+						return false;
+					}
+					break;
+				default:
+					if (!valueEquals(accessor.get(a), accessor.get(b))) {
+						return false;
+					}
+				}
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		return true;
+	}
+
+	/**
+	 * @return A hash code of the object's fields that is consistent with
+	 *         {@link #equal(Object, Object)}, 0 for {@code null}
+	 */
+	int hash(Object obj) {
+		if (obj == null) {
+			return 0;
+		}
+		check(obj);
+		int result = 1;
+		try {
+			for (int i = 0; i < kinds.length; i++) {
+				FieldAccessor accessor = accessors[i];
+				int hash;
+				switch (kinds[i]) {
+				case INT:
+					hash = accessor.getInt(obj);
+					break;
+				case LONG:
+					long l = accessor.getLong(obj);
+					hash = (int) (l ^ (l >>> 32));
+					break;
+				case DOUBLE:
+					long bits = Double.doubleToLongBits(accessor.getDouble(obj));
+					hash = (int) (bits ^ (bits >>> 32));
+					break;
+				case BOOLEAN:
+					hash = accessor.getBoolean(obj) ? 1231 : 1237;
+					break;
+				default:
+					hash = valueHash(accessor.get(obj));
+				}
+				result = 31 * result + hash;
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		return result;
+	}
+
+	/**
+	 * @return The simple name of the object's class followed by the name and
+	 *         value of every field, "null" for {@code null}
+	 */
+	String describe(Object obj) {
+		if (obj == null) {
+			return "null";
+		}
+		check(obj);
+		StringBuilder sb = new StringBuilder(16 + 16 * names.length);
+		sb.append(obj.getClass().getSimpleName()).append('[');
+		try {
+			for (int i = 0; i < kinds.length; i++) {
+				if (i > 0) {
+					sb.append(", ");
+				}
+				sb.append(names[i]).append('=');
+				FieldAccessor accessor = accessors[i];
+				switch (kinds[i]) {
+				case INT:
+					if (accessor.getField().getType() == char.class) {
+						sb.append((char) accessor.getInt(obj));
+					} else {
+						sb.append(accessor.getInt(obj));
+					}
+					break;
+				case LONG:
+					sb.append(accessor.getLong(obj));
+					break;
+				case DOUBLE:
+					if (accessor.getField().getType() == float.class) {
+						sb.append((float) accessor.getDouble(obj));
+					} else {
+						sb.append(accessor.getDouble(obj));
+					}
+					break;
+				case BOOLEAN:
+					sb.append(accessor.getBoolean(obj));
+					break;
+				default:
+					sb.append(valueString(accessor.get(obj)));
+				}
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		return sb.append(']').toString();
+	}
+
+	private void check(Object obj) {
+		if (!type.isInstance(obj)) {
+			throw new IllegalArgumentException("object is not an instance of " + type.getName());
+		}
+	}
+
+	private static int kindOf(Class<?> type) {
+		if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+			return INT;
+		}
+		if (type == long.class) {
+			return LONG;
+		}
+		if (type == double.class || type == float.class) {
+			return DOUBLE;
+		}
+		if (type == boolean.class) {
+			return BOOLEAN;
+		}
+		return REFERENCE;
+	}
+
+	private static boolean valueEquals(Object a, Object b) {
+		if (a == b) {
+			return true;
+		}
+		if (a == null || b == null) {
+			return false;
+		}
+		if (a.getClass().isArray() && b.getClass().isArray()) {
+			return Arrays.deepEquals(new Object[] { a }, new Object[] { b });
+		}
+		return a.equals(b);
+	}
+
+	private static int valueHash(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		if (value.getClass().isArray()) {
+			return Arrays.deepHashCode(new Object[] { value });
+		}
+		return value.hashCode();
+	}
+
+	private static String valueString(Object value) {
+		if (value == null || !value.getClass().isArray()) {
+			return String.valueOf(value);
+		}
+		String s = Arrays.deepToString(new Object[] { value });
+		return s.substring(1, s.length() - 1);
+	}
+}
@@ -17,14 +17,18 @@ public class Fields {
 		}
 	};
 
+	private Class<?> type;
 	private Object obj;
 
-	private Fields(Object obj) {
+	private Fields(Class<?> type, Object obj) {
+		this.type = type;
 		this.obj = obj;
 	}
 
 	/**
-	 * Get a field that has the given name
+	 * Get a field that has the given name. If a superclass declares a field
+	 * with the same name, the field declared closest to the object's class is
+	 * returned.
 	 * 
 	 * @param fieldName
 	 *            The name of the field to look for
@@ -34,17 +38,13 @@ public class Fields {
 	 *             If no field exists with the provided name
 	 */
 	public ReflectorField get(String fieldName) throws NoSuchFieldException {
-		ReflectorField field = null;
-		for (ReflectorField f : list()) {
-			if (f.getField().getName().equals(fieldName)) {
-				field = f;
-				break;
-			}
-		}
+		Object event = Events.beginLookup();
+		Field field = ClassMetadata.forClass(type).field(fieldName);
+		Events.endLookup(event, type, "field", fieldName, null, field == null ? 0 : 1);
 		if (field == null) {
 			throw new NoSuchFieldException(fieldName);
 		}
-		return field;
+		return new ReflectorField(obj, field);
 	}
 
 	/**
@@ -69,28 +69,72 @@ public class Fields {
 	 *         criteria
 	 */
 	public HashSet<ReflectorField> list(Filter<Field> filter) {
+		Object event = Events.beginLookup();
+		Filter<Field> requested = filter;
 		HashSet<ReflectorField> fields = new HashSet<ReflectorField>();
 
 		if (filter == null) {
 			filter = ALL_FIELDS;
 		}
 
-		Class<?> currentClass = obj.getClass();
-		while (currentClass != null) {
-			for (Field f : currentClass.getDeclaredFields()) {
-				// set accessible to that field values can be accessed
-				f.setAccessible(true);
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		// the metadata fields are already accessible
+		Field[] candidates = metadata.fields();
+		if (filter instanceof MemoizedFilter) {
+			// memoized results are already filtered
+			candidates = metadata.select(candidates, filter);
+			filter = ALL_FIELDS;
+		}
 
-				// apply filter
-				if (filter.apply(f)) {
-					fields.add(new ReflectorField(obj, f));
-				}
+		for (Field f : candidates) {
+			// apply filter
+			if (filter.apply(f)) {
+				fields.add(new ReflectorField(obj, f));
 			}
-			currentClass = currentClass.getSuperclass();
 		}
+		Events.endLookup(event, type, "field", null, requested, fields.size());
 		return fields;
 	}
 
+	/**
+	 * Lazily iterates over the {@link Field}s for the given class and all of its superclasses
+	 * where {@link Filter#apply(Object)} returns true. The filter is applied
+	 * as the iteration advances and a {@link ReflectorField} is only created for
+	 * the fields that are returned, so stopping early skips the remaining work.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a field is
+	 *            returned. If {@code null} all fields will be returned.
+	 * @return An {@link Iterable} over the fields that meet the filtering
+	 *         criteria
+	 */
+	public Iterable<ReflectorField> iterate(Filter<Field> filter) {
+		final Object target = obj;
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		return new FilteredIterable<Field, ReflectorField>(metadata, metadata.fields(), filter) {
+			@Override
+			ReflectorField wrap(Field field) {
+				return new ReflectorField(target, field);
+			}
+		};
+	}
+
+	/**
+	 * Passes the {@link Field}s for the given class and all of its superclasses where
+	 * {@link Filter#apply(Object)} returns true to the visitor, until the
+	 * visitor returns false. No wrappers or collections are created.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a field is
+	 *            visited. If {@code null} all fields will be visited.
+	 * @param visitor
+	 *            The visitor to pass the fields to
+	 */
+	public void forEach(Filter<Field> filter, Visitor<Field> visitor) {
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		FilteredIterable.visit(metadata, metadata.fields(), filter, visitor);
+	}
+
 	/**
 	 * Builds a new Fields object with context of the object you want to Reflect
 	 * over
@@ -100,7 +144,21 @@ public class Fields {
 	 * @return A newly created Fields object
 	 */
 	public static Fields forObj(Object obj) {
-		return new Fields(obj);
+		return new Fields(obj.getClass(), obj);
+	}
+
+	/**
+	 * Builds a new Fields object with the context of a class instead of an
+	 * object. The returned wrappers aren't bound to any object, so they can
+	 * be resolved once and used with any instance of the class through the
+	 * methods that take a target.
+	 * 
+	 * @param type
+	 *            The class whos fields you want to Reflect over
+	 * @return A newly created Fields object
+	 */
+	public static Fields forClass(Class<?> type) {
+		return new Fields(type, null);
 	}
 
 	/**
@@ -132,18 +190,11 @@ public class Fields {
 	 * @param modifiers
 	 *            Modifiers that a field should have. See {@link Modifier}
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
-	 *         true for any field that has all of the provided modifiers
+	 *         true for any field that has all of the provided modifiers. The
+	 *         modifiers are checked with a single mask comparison.
 	 */
-	public static Filter<Field> thatHaveModifiers(final int... modifiers) {
-		return new Filter<Field>() {
-			public boolean apply(Field field) {
-				boolean valid = true;
-				for (int modifier : modifiers) {
-					valid &= (field.getModifiers() & modifier) == modifier;
-				}
-				return valid;
-			}
-		};
+	public static Filter<Field> thatHaveModifiers(int... modifiers) {
+		return ModifierFilter.requiring(modifiers);
 	}
 
 	/**
@@ -153,12 +204,8 @@ public class Fields {
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
 	 *         true for any field who's name starts with the given prefix
 	 */
-	public static Filter<Field> thatStartWith(final String prefix) {
-		return new Filter<Field>() {
-			public boolean apply(Field field) {
-				return field.getName().startsWith(prefix);
-			}
-		};
+	public static Filter<Field> thatStartWith(String prefix) {
+		return NameFilter.startingWith(prefix);
 	}
 
 	/**
@@ -168,11 +215,7 @@ public class Fields {
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
 	 *         true for any field who's name ends with the given suffix
 	 */
-	public static Filter<Field> thatEndWith(final String suffix) {
-		return new Filter<Field>() {
-			public boolean apply(Field field) {
-				return field.getName().endsWith(suffix);
-			}
-		};
+	public static Filter<Field> thatEndWith(String suffix) {
+		return NameFilter.endingWith(suffix);
 	}
 }
@@ -0,0 +1,90 @@
+package com.zabawaba.reflector;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the members of an array that pass a {@link Filter}. The
+ * filter is applied while iterating, unless it is memoized, and only members
+ * that are returned get wrapped.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+abstract class FilteredIterable<M, W> implements Iterable<W> {
+
+	private final M[] members;
+	private final Filter<M> filter;
+
+	FilteredIterable(ClassMetadata metadata, M[] members, Filter<M> filter) {
+		if (filter instanceof MemoizedFilter) {
+			this.members = metadata.select(members, filter);
+			this.filter = null;
+		} else {
+			this.members = members;
+			this.filter = filter;
+		}
+	}
+
+	/**
+	 * @param member
+	 *            A member that passed the filter
+	 * @return The wrapper to return for the member
+	 */
+	abstract W wrap(M member);
+
+	public Iterator<W> iterator() {
+		return new Iterator<W>() {
+			private int index = advance(0);
+
+			public boolean hasNext() {
+				return index < members.length;
+			}
+
+			public W next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				W next = wrap(members[index]);
+				index = advance(index + 1);
+				return next;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private int advance(int from) {
+		int i = from;
+		while (i < members.length && filter != null && !filter.apply(members[i])) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Visits the members that pass the filter until the visitor returns false
+	 * 
+	 * @param metadata
+	 *            The metadata the members come from
+	 * @param members
+	 *            The members to visit
+	 * @param filter
+	 *            The filter members have to pass, {@code null} to visit all
+	 * @param visitor
+	 *            The visitor to call
+	 */
+	static <M> void visit(ClassMetadata metadata, M[] members, Filter<M> filter, Visitor<M> visitor) {
+		if (filter instanceof MemoizedFilter) {
+			members = metadata.select(members, filter);
+			filter = null;
+		}
+		for (M member : members) {
+			if ((filter == null || filter.apply(member)) && !visitor.visit(member)) {
+				return;
+			}
+		}
+	}
+}
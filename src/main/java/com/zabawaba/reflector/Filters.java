@@ -0,0 +1,336 @@
+package com.zabawaba.reflector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Combines {@link Filter}s. Combining the built-in filters of {@link Fields}
+ * and {@link Methods} is cheaper than chaining them by hand: {@link #and}
+ * fuses all of their modifier checks into one mask comparison and all of
+ * their name checks into one filter that reads the name once, and runs those
+ * before any other filter.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class Filters {
+
+	@SuppressWarnings("rawtypes")
+	private static final Filter ALL = new Filter<Object>() {
+		public boolean apply(Object object) {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "all";
+		}
+	};
+
+	private Filters() {
+	}
+
+	/**
+	 * @return a {@link Filter} where {@link Filter#apply(Object)} always
+	 *         returns true
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Filter<T> all() {
+		return ALL;
+	}
+
+	/**
+	 * @see #and(Filter...)
+	 */
+	public static <T> Filter<T> and(Filter<T> filter) {
+		return and(Filters.<T> array(filter));
+	}
+
+	/**
+	 * @see #and(Filter...)
+	 */
+	public static <T> Filter<T> and(Filter<T> first, Filter<T> second) {
+		return and(Filters.<T> array(first, second));
+	}
+
+	/**
+	 * @see #and(Filter...)
+	 */
+	public static <T> Filter<T> and(Filter<T> first, Filter<T> second, Filter<T> third) {
+		return and(Filters.<T> array(first, second, third));
+	}
+
+	/**
+	 * Combines any number of filters. Up to three filters are better passed
+	 * to the overloads that take them one by one, a varargs call creates a
+	 * generic array that older compilers warn about at the call site.
+	 * 
+	 * @param filters
+	 *            The filters to combine. {@code null} filters are ignored.
+	 * @return a {@link Filter} where {@link Filter#apply(Object)} returns true
+	 *         if all of the given filters return true
+	 */
+	@SafeVarargs
+	@SuppressWarnings({ "unchecked", "rawtypes", "varargs" })
+	public static <T> Filter<T> and(Filter<T>... filters) {
+		int required = 0;
+		int excluded = 0;
+		boolean hasModifiers = false;
+		NameFilter names = null;
+		List<Filter<T>> others = new ArrayList<Filter<T>>();
+
+		for (Filter<T> filter : flatten(filters, And.class)) {
+			if (filter instanceof ModifierFilter) {
+				ModifierFilter<?> modifiers = (ModifierFilter<?>) filter;
+				required |= modifiers.getRequired();
+				excluded |= modifiers.getExcluded();
+				hasModifiers = true;
+			} else if (filter instanceof NameFilter) {
+				names = names == null ? (NameFilter) filter : names.and((NameFilter<?>) filter);
+			} else if (filter != ALL) {
+				others.add(filter);
+			}
+		}
+
+		// cheapest checks first
+		List<Filter<T>> parts = new ArrayList<Filter<T>>();
+		if (hasModifiers) {
+			parts.add(new ModifierFilter(required, excluded));
+		}
+		if (names != null) {
+			parts.add(names);
+		}
+		parts.addAll(others);
+
+		if (parts.isEmpty()) {
+			return all();
+		}
+		if (parts.size() == 1) {
+			return parts.get(0);
+		}
+		return new And<T>(parts.toArray(new Filter[parts.size()]));
+	}
+
+	/**
+	 * @see #or(Filter...)
+	 */
+	public static <T> Filter<T> or(Filter<T> filter) {
+		return or(Filters.<T> array(filter));
+	}
+
+	/**
+	 * @see #or(Filter...)
+	 */
+	public static <T> Filter<T> or(Filter<T> first, Filter<T> second) {
+		return or(Filters.<T> array(first, second));
+	}
+
+	/**
+	 * @see #or(Filter...)
+	 */
+	public static <T> Filter<T> or(Filter<T> first, Filter<T> second, Filter<T> third) {
+		return or(Filters.<T> array(first, second, third));
+	}
+
+	/**
+	 * Combines any number of filters, see {@link #and(Filter...)} for the
+	 * overloads.
+	 * 
+	 * @param filters
+	 *            The filters to combine. A {@code null} filter accepts
+	 *            everything, like it does for {@link Fields#list(Filter)}.
+	 * @return a {@link Filter} where {@link Filter#apply(Object)} returns true
+	 *         if any of the given filters returns true
+	 */
+	@SafeVarargs
+	@SuppressWarnings({ "unchecked", "rawtypes", "varargs" })
+	public static <T> Filter<T> or(Filter<T>... filters) {
+		for (Filter<T> filter : filters) {
+			if (filter == null || filter == ALL) {
+				return all();
+			}
+		}
+		List<Filter<T>> parts = flatten(filters, Or.class);
+		if (parts.isEmpty()) {
+			return all();
+		}
+		if (parts.size() == 1) {
+			return parts.get(0);
+		}
+		return new Or<T>(parts.toArray(new Filter[parts.size()]));
+	}
+
+	/**
+	 * @param filter
+	 *            The filter to negate. A {@code null} filter accepts
+	 *            everything, so its negation accepts nothing.
+	 * @return a {@link Filter} where {@link Filter#apply(Object)} returns true
+	 *         if the given filter returns false
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <T> Filter<T> not(Filter<T> filter) {
+		if (filter == null) {
+			filter = all();
+		}
+		if (filter instanceof Not) {
+			return ((Not<T>) filter).filter;
+		}
+		if (filter instanceof ModifierFilter) {
+			// a single modifier can be flipped into the other mask
+			ModifierFilter<?> modifiers = (ModifierFilter<?>) filter;
+			int required = modifiers.getRequired();
+			int excluded = modifiers.getExcluded();
+			if (excluded == 0 && Integer.bitCount(required) == 1) {
+				return new ModifierFilter(0, required);
+			}
+			if (required == 0 && Integer.bitCount(excluded) == 1) {
+				return new ModifierFilter(excluded, 0);
+			}
+		}
+		return new Not<T>(filter);
+	}
+
+	/**
+	 * Lets {@link Fields}, {@link Methods} and {@link Constructors} cache the
+	 * members that pass the filter, per class. Only memoize filters that
+	 * always give the same answer for the same member. Results are shared
+	 * between filters that are equal, which the built-in filters and the
+	 * combinations of this class are. Each class keeps the results of its
+	 * {@value ClassMetadata#MEMOIZED_FILTERS} most recently used filters.
+	 * Classes whose loader can't see the filter's classes, such as JDK
+	 * classes, don't cache the results so they never keep the filter loaded.
+	 * 
+	 * @param filter
+	 *            The filter to memoize
+	 * @return a {@link Filter} that applies the given filter and whose results
+	 *         are cached
+	 */
+	public static <T> Filter<T> memoized(Filter<T> filter) {
+		if (filter == null || filter instanceof MemoizedFilter) {
+			return filter;
+		}
+		return new MemoizedFilter<T>(filter);
+	}
+
+	/**
+	 * Adds the classes of the filter and of every filter it combines, which
+	 * is what holding on to the filter keeps loaded
+	 */
+	static void collectClasses(Filter<?> filter, Set<Class<?>> classes) {
+		classes.add(filter.getClass());
+		if (filter instanceof Composite) {
+			for (Filter<?> part : ((Composite<?>) filter).filters) {
+				collectClasses(part, classes);
+			}
+		} else if (filter instanceof Not) {
+			collectClasses(((Not<?>) filter).filter, classes);
+		} else if (filter instanceof MemoizedFilter) {
+			collectClasses(((MemoizedFilter<?>) filter).getFilter(), classes);
+		}
+	}
+
+	// Filter<?> is reifiable, so creating this array doesn't warn
+	@SuppressWarnings("unchecked")
+	private static <T> Filter<T>[] array(Filter<?>... filters) {
+		return (Filter<T>[]) filters;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<Filter<T>> flatten(Filter<T>[] filters, Class<?> composite) {
+		List<Filter<T>> result = new ArrayList<Filter<T>>();
+		for (Filter<T> filter : filters) {
+			if (filter == null) {
+				continue;
+			}
+			if (composite.isInstance(filter)) {
+				result.addAll(Arrays.asList(((Composite<T>) filter).filters));
+			} else {
+				result.add(filter);
+			}
+		}
+		return result;
+	}
+
+	private abstract static class Composite<T> implements Filter<T> {
+		final Filter<T>[] filters;
+
+		Composite(Filter<T>[] filters) {
+			this.filters = filters;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj != null && obj.getClass() == getClass()
+					&& Arrays.equals(filters, ((Composite<?>) obj).filters);
+		}
+
+		@Override
+		public int hashCode() {
+			return getClass().hashCode() * 31 + Arrays.hashCode(filters);
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName().toLowerCase() + Arrays.toString(filters);
+		}
+	}
+
+	private static final class And<T> extends Composite<T> {
+		And(Filter<T>[] filters) {
+			super(filters);
+		}
+
+		public boolean apply(T object) {
+			for (Filter<T> filter : filters) {
+				if (!filter.apply(object)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class Or<T> extends Composite<T> {
+		Or(Filter<T>[] filters) {
+			super(filters);
+		}
+
+		public boolean apply(T object) {
+			for (Filter<T> filter : filters) {
+				if (filter.apply(object)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class Not<T> implements Filter<T> {
+		final Filter<T> filter;
+
+		Not(Filter<T> filter) {
+			this.filter = filter;
+		}
+
+		public boolean apply(T object) {
+			return !filter.apply(object);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Not && filter.equals(((Not<?>) obj).filter);
+		}
+
+		@Override
+		public int hashCode() {
+			return ~filter.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "not(" + filter + ")";
+		}
+	}
+}
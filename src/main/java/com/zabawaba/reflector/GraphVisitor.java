@@ -0,0 +1,31 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Field;
+
+/**
+ * Receives the objects reached by a {@link GraphWalker}, each one exactly
+ * once, and decides whether the walker descends into them.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public interface GraphVisitor {
+	/**
+	 * Visits an object of the graph
+	 * 
+	 * @param owner
+	 *            The object or array the value was read from, {@code null}
+	 *            for the root
+	 * @param field
+	 *            The field the value was read from, {@code null} for the root
+	 *            and for array elements
+	 * @param value
+	 *            The object being visited, never {@code null}
+	 * @param depth
+	 *            The number of references followed from the root, 0 for the
+	 *            root
+	 * @return true to descend into the fields or elements of the value,
+	 *         false to skip them
+	 */
+	public boolean visit(Object owner, Field field, Object value, int depth);
+}
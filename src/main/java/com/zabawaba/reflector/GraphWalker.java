@@ -0,0 +1,194 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Walks the object graph reachable from a root through instance fields and
+ * object array elements. The walk is depth first and iterative, with an
+ * explicit stack instead of recursion, so graphs of any depth can be walked.
+ * Every object is visited once, compared by identity, so cycles and shared
+ * objects are handled and a walk takes time linear in the number of objects
+ * and references.
+ * <p>
+ * The reference fields to follow are collected once per class and reused by
+ * every walk. Fields that are static, hold primitives or can't be made
+ * accessible are never followed, and neither are the fields of
+ * {@link Class} objects. A walker holds no state between walks and can be
+ * shared between threads.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class GraphWalker {
+
+	private static final FieldAccessor[] NO_FIELDS = new FieldAccessor[0];
+
+	private final Filter<Field> filter;
+	private final ConcurrentMap<Class<?>, FieldAccessor[]> plans = new ConcurrentHashMap<Class<?>, FieldAccessor[]>();
+
+	private GraphWalker(Filter<Field> filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * @return A walker that follows every reference field
+	 */
+	public static GraphWalker create() {
+		return new GraphWalker(null);
+	}
+
+	/**
+	 * @param filter
+	 *            Decides which reference fields are followed, {@code null} to
+	 *            follow all of them. It is applied once per field.
+	 * @return A walker that only follows the fields the filter accepts
+	 */
+	public static GraphWalker create(Filter<Field> filter) {
+		return new GraphWalker(filter);
+	}
+
+	/**
+	 * Visits the root and every object reachable from it
+	 * 
+	 * @param root
+	 *            The object to start at, nothing is visited if it is
+	 *            {@code null}
+	 * @param visitor
+	 *            Receives every object reached
+	 * @return The number of objects visited
+	 */
+	public long walk(Object root, GraphVisitor visitor) {
+		if (root == null) {
+			return 0;
+		}
+		IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<Object, Boolean>();
+		Stack stack = new Stack();
+		stack.push(null, null, root, 0);
+
+		long count = 0;
+		try {
+			while (stack.size > 0) {
+				stack.pop();
+				Object value = stack.value;
+				// an object can be pushed again before its first visit, only
+				// the first reference to it in walk order is visited
+				if (visited.put(value, Boolean.TRUE) != null) {
+					continue;
+				}
+				int depth = stack.depth;
+				count++;
+				if (!visitor.visit(stack.owner, stack.field, value, depth)) {
+					continue;
+				}
+
+				Class<?> type = value.getClass();
+				if (type.isArray()) {
+					if (!type.getComponentType().isPrimitive()) {
+						Object[] elements = (Object[]) value;
+						// pushed in reverse so they are visited in order
+						for (int i = elements.length - 1; i >= 0; i--) {
+							Object element = elements[i];
+							if (element != null && !visited.containsKey(element)) {
+								stack.push(value, null, element, depth + 1);
+							}
+						}
+					}
+					continue;
+				}
+
+				FieldAccessor[] accessors = plan(type);
+				for (int i = accessors.length - 1; i >= 0; i--) {
+					Object child = accessors[i].get(value);
+					if (child != null && !visited.containsKey(child)) {
+						stack.push(value, accessors[i].getField(), child, depth + 1);
+					}
+				}
+			}
+		} catch (IllegalAccessException e) {
+			// plans only hold accessible fields
+			throw new IllegalStateException(e);
+		}
+		return count;
+	}
+
+	/**
+	 * @return The accessors of the reference fields of the class to follow
+	 */
+	private FieldAccessor[] plan(Class<?> type) {
+		FieldAccessor[] plan = plans.get(type);
+		if (plan == null) {
+			plan = createPlan(type);
+			FieldAccessor[] existing = plans.putIfAbsent(type, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+		return plan;
+	}
+
+	private FieldAccessor[] createPlan(Class<?> type) {
+		if (type == Class.class) {
+			return NO_FIELDS;
+		}
+		List<FieldAccessor> accessors = new ArrayList<FieldAccessor>();
+		for (Field f : ClassMetadata.forClass(type).fields()) {
+			if (!Modifier.isStatic(f.getModifiers()) && !f.getType().isPrimitive() && f.isAccessible()
+					&& (filter == null || filter.apply(f))) {
+				accessors.add(FieldAccessor.forField(f));
+			}
+		}
+		return accessors.isEmpty() ? NO_FIELDS : accessors.toArray(new FieldAccessor[accessors.size()]);
+	}
+
+	/**
+	 * The objects still to visit, kept in parallel arrays so pushing doesn't
+	 * allocate. {@link #pop()} loads the top entry into the
+	 * owner, field, value and depth fields.
+	 */
+	private static final class Stack {
+		int size;
+		Object[] owners = new Object[64];
+		Field[] fields = new Field[64];
+		Object[] values = new Object[64];
+		int[] depths = new int[64];
+
+		Object owner;
+		Field field;
+		Object value;
+		int depth;
+
+		void push(Object owner, Field field, Object value, int depth) {
+			if (size == values.length) {
+				int capacity = size * 2;
+				owners = Arrays.copyOf(owners, capacity);
+				fields = Arrays.copyOf(fields, capacity);
+				values = Arrays.copyOf(values, capacity);
+				depths = Arrays.copyOf(depths, capacity);
+			}
+			owners[size] = owner;
+			fields[size] = field;
+			values[size] = value;
+			depths[size] = depth;
+			size++;
+		}
+
+		void pop() {
+			size--;
+			owner = owners[size];
+			field = fields[size];
+			value = values[size];
+			depth = depths[size];
+			// don't keep popped entries reachable from the stack
+			owners[size] = null;
+			fields[size] = null;
+			values[size] = null;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.zabawaba.reflector;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helpers shared by the {@link java.lang.invoke.MethodHandle} based
+ * accessors.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class Handles {
+
+	/**
+	 * Lookup used to unreflect members. Members made accessible through
+	 * {@link ClassMetadata} can be unreflected regardless of their modifiers.
+	 */
+	static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<Class<?>, Class<?>>();
+	private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<Class<?>, Class<?>>();
+
+	static {
+		WRAPPERS.put(boolean.class, Boolean.class);
+		WRAPPERS.put(byte.class, Byte.class);
+		WRAPPERS.put(char.class, Character.class);
+		WRAPPERS.put(short.class, Short.class);
+		WRAPPERS.put(int.class, Integer.class);
+		WRAPPERS.put(long.class, Long.class);
+		WRAPPERS.put(float.class, Float.class);
+		WRAPPERS.put(double.class, Double.class);
+		WRAPPERS.put(void.class, Void.class);
+		for (Map.Entry<Class<?>, Class<?>> e : WRAPPERS.entrySet()) {
+			PRIMITIVES.put(e.getValue(), e.getKey());
+		}
+	}
+
+	private Handles() {
+	}
+
+	/**
+	 * @param type
+	 *            A primitive or reference type
+	 * @return The wrapper class of a primitive type, or the type itself
+	 */
+	static Class<?> wrap(Class<?> type) {
+		Class<?> wrapper = WRAPPERS.get(type);
+		return wrapper == null ? type : wrapper;
+	}
+
+	/**
+	 * @param type
+	 *            A primitive or reference type
+	 * @return The primitive type of a wrapper class, or the type itself
+	 */
+	static Class<?> unwrap(Class<?> type) {
+		Class<?> primitive = PRIMITIVES.get(type);
+		return primitive == null ? type : primitive;
+	}
+
+	/**
+	 * @param types
+	 *            Primitive or reference types
+	 * @return A new array holding the result of {@link #wrap(Class)} for each
+	 *         type
+	 */
+	static Class<?>[] wrap(Class<?>[] types) {
+		Class<?>[] wrapped = new Class<?>[types.length];
+		for (int i = 0; i < types.length; i++) {
+			wrapped[i] = wrap(types[i]);
+		}
+		return wrapped;
+	}
+
+	/**
+	 * Checks whether the arguments can be passed straight to a handle without
+	 * any conversion other than unboxing. Anything else, including primitive
+	 * widening, is left to core reflection so that it converts or reports the
+	 * arguments exactly like it always has.
+	 *
+	 * @param parameterTypes
+	 *            The declared parameter types
+	 * @param wrappedTypes
+	 *            The declared parameter types after {@link #wrap(Class[])}
+	 * @param args
+	 *            The arguments to check
+	 * @return true if the arguments match the parameter types exactly
+	 */
+	static boolean accepts(Class<?>[] parameterTypes, Class<?>[] wrappedTypes, Object[] args) {
+		if (args == null || args.length != parameterTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null ? parameterTypes[i].isPrimitive() : !wrappedTypes[i].isInstance(arg)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Rethrows errors and runtime exceptions thrown by a handle that doesn't
+	 * run user code, such as a field getter or setter.
+	 *
+	 * @param t
+	 *            The throwable the handle threw
+	 * @return The runtime exception to throw
+	 */
+	static RuntimeException unchecked(Throwable t) {
+		if (t instanceof Error) {
+			throw (Error) t;
+		}
+		if (t instanceof RuntimeException) {
+			return (RuntimeException) t;
+		}
+		return new IllegalStateException(t);
+	}
+}
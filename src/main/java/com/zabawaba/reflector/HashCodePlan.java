@@ -0,0 +1,38 @@
+package com.zabawaba.reflector;
+
+/**
+ * Hashes instances of a class field by field, see
+ * {@link Reflector#hashCodePlan(Class, Filter)}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class HashCodePlan {
+
+	private final FieldPlan plan;
+
+	HashCodePlan(FieldPlan plan) {
+		this.plan = plan;
+	}
+
+	/**
+	 * @return The class this plan hashes
+	 */
+	public Class<?> getType() {
+		return plan.getType();
+	}
+
+	/**
+	 * Hashes an object field by field, the same way
+	 * {@link java.util.Arrays#hashCode(Object[])} hashes its elements
+	 * 
+	 * @param obj
+	 *            An instance of the plan's class
+	 * @return The hash code of the object's fields, 0 for {@code null}
+	 * @throws IllegalArgumentException
+	 *             if the object is not an instance of the plan's class
+	 */
+	public int hashCode(Object obj) {
+		return plan.hash(obj);
+	}
+}
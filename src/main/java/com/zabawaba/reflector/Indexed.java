@@ -0,0 +1,23 @@
+package com.zabawaba.reflector;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose members should be indexed at compile time by the
+ * {@link MemberIndexProcessor}. Looking up a field or method of an indexed
+ * class by name then only reflects on the class that declares it instead of
+ * scanning the whole class hierarchy. The annotation is kept at runtime so
+ * classes without it never look for an index.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Indexed {
+}
@@ -0,0 +1,149 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Member;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Java Flight Recorder events behind {@link Events}. Only loaded when
+ * {@code jdk.jfr} is available.
+ * <p>
+ * Lookups and invocations have default thresholds so that only slow ones
+ * are recorded, like any JFR event they can be changed in the recording
+ * settings, for example {@code com.zabawaba.reflector.Invocation#threshold=1 ms}.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class JfrEvents {
+
+	// only asked whether their type is enabled, so no event is allocated
+	// unless a recording wants it
+	private static final ScanEvent SCAN = new ScanEvent();
+	private static final LookupEvent LOOKUP = new LookupEvent();
+	private static final InvocationEvent INVOCATION = new InvocationEvent();
+
+	private JfrEvents() {
+	}
+
+	static Object beginScan() {
+		if (!SCAN.isEnabled()) {
+			return null;
+		}
+		ScanEvent event = new ScanEvent();
+		event.begin();
+		return event;
+	}
+
+	static void endScan(Object event, Class<?> type, String kind, int memberCount) {
+		ScanEvent scan = (ScanEvent) event;
+		scan.end();
+		if (scan.shouldCommit()) {
+			scan.type = type;
+			scan.kind = kind;
+			scan.memberCount = memberCount;
+			scan.commit();
+		}
+	}
+
+	static Object beginLookup() {
+		if (!LOOKUP.isEnabled()) {
+			return null;
+		}
+		LookupEvent event = new LookupEvent();
+		event.begin();
+		return event;
+	}
+
+	static void endLookup(Object event, Class<?> type, String kind, String name, Filter<?> filter, int resultCount) {
+		LookupEvent lookup = (LookupEvent) event;
+		lookup.end();
+		if (lookup.shouldCommit()) {
+			lookup.type = type;
+			lookup.kind = kind;
+			lookup.name = name;
+			// only describe the filter when the event is recorded
+			lookup.filter = filter == null ? null : filter.toString();
+			lookup.resultCount = resultCount;
+			lookup.commit();
+		}
+	}
+
+	static Object beginInvocation() {
+		if (!INVOCATION.isEnabled()) {
+			return null;
+		}
+		InvocationEvent event = new InvocationEvent();
+		event.begin();
+		return event;
+	}
+
+	static void endInvocation(Object event, Member member) {
+		InvocationEvent invocation = (InvocationEvent) event;
+		invocation.end();
+		if (invocation.shouldCommit()) {
+			invocation.type = member.getDeclaringClass();
+			invocation.member = member.toString();
+			invocation.commit();
+		}
+	}
+
+	@Name("com.zabawaba.reflector.ClassScan")
+	@Label("Class Scan")
+	@Category("Reflector")
+	@Description("The members of a class were collected for the first time")
+	static final class ScanEvent extends Event {
+		@Label("Class")
+		Class<?> type;
+
+		@Label("Kind")
+		@Description("field, method or constructor")
+		String kind;
+
+		@Label("Member Count")
+		int memberCount;
+	}
+
+	@Name("com.zabawaba.reflector.Lookup")
+	@Label("Member Lookup")
+	@Category("Reflector")
+	@Description("Members were looked up through Fields, Methods or Constructors")
+	@Threshold("100 us")
+	static final class LookupEvent extends Event {
+		@Label("Class")
+		Class<?> type;
+
+		@Label("Kind")
+		@Description("field, method or constructor")
+		String kind;
+
+		@Label("Name")
+		String name;
+
+		@Label("Filter")
+		String filter;
+
+		@Label("Result Count")
+		int resultCount;
+	}
+
+	@Name("com.zabawaba.reflector.Invocation")
+	@Label("Slow Invocation")
+	@Category("Reflector")
+	@Description("A method or constructor invoked through ReflectorMethod, ReflectorConstructor or ClassAccess took longer than the threshold")
+	@Threshold("10 ms")
+	@StackTrace(true)
+	static final class InvocationEvent extends Event {
+		@Label("Class")
+		Class<?> type;
+
+		@Label("Member")
+		String member;
+	}
+}
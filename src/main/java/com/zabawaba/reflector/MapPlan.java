@@ -0,0 +1,113 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts instances of a class to and from maps of field names to values.
+ * The instance fields of the class are collected once, shadowed fields are
+ * left out like {@link Fields#get(String)} does.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MapPlan {
+
+	private final Class<?> type;
+	private final String[] keys;
+	private final FieldAccessor[] accessors;
+	// the capacity a HashMap needs to hold every key without resizing
+	private final int capacity;
+
+	MapPlan(Class<?> type) {
+		this.type = type;
+
+		List<Field> fields = new ArrayList<Field>();
+		Set<String> seen = new HashSet<String>();
+		for (Field f : ClassMetadata.forClass(type).fields()) {
+			// fields are ordered subclass first, keep the first one seen
+			if (seen.add(f.getName()) && !Modifier.isStatic(f.getModifiers())) {
+				fields.add(f);
+			}
+		}
+		this.keys = new String[fields.size()];
+		this.accessors = new FieldAccessor[fields.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = fields.get(i).getName();
+			accessors[i] = FieldAccessor.forField(fields.get(i));
+		}
+		this.capacity = (int) (keys.length / 0.75f) + 1;
+	}
+
+	/**
+	 * @param obj
+	 *            An instance of the class
+	 * @return A new map holding the value of every field of the object, in
+	 *         the order of {@link Fields#list()}
+	 * @throws IllegalAccessException
+	 *             if a field is not accessible
+	 */
+	Map<String, Object> toMap(Object obj) throws IllegalAccessException {
+		return toMap(obj, new LinkedHashMap<String, Object>(capacity));
+	}
+
+	/**
+	 * @param obj
+	 *            An instance of the class
+	 * @param map
+	 *            The map to put the value of every field of the object in
+	 * @return The map
+	 * @throws IllegalAccessException
+	 *             if a field is not accessible
+	 */
+	<M extends Map<String, Object>> M toMap(Object obj, M map) throws IllegalAccessException {
+		if (!type.isInstance(obj)) {
+			throw new IllegalArgumentException("object is not an instance of " + type.getName());
+		}
+		for (int i = 0; i < keys.length; i++) {
+			map.put(keys[i], accessors[i].get(obj));
+		}
+		return map;
+	}
+
+	/**
+	 * Creates an instance through the default constructor and sets every
+	 * field that has a key in the map. Fields without a key keep the value
+	 * the constructor gave them.
+	 * 
+	 * @param map
+	 *            The field values
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             if the class has no default constructor or is abstract
+	 * @throws InvocationTargetException
+	 *             if the default constructor throws an exception
+	 * @throws IllegalAccessException
+	 *             if a field or the constructor is not accessible
+	 * @throws IllegalArgumentException
+	 *             if a value can't be stored in its field
+	 */
+	Object fromMap(Map<String, ?> map)
+			throws InstantiationException, InvocationTargetException, IllegalAccessException {
+		Constructor<?> constructor = ClassMetadata.forClass(type).defaultConstructor();
+		if (constructor == null) {
+			throw new InstantiationException(type.getName() + " has no default constructor");
+		}
+		Object obj = ConstructorInvoker.forConstructor(constructor).newInstance(null);
+		for (int i = 0; i < keys.length; i++) {
+			Object value = map.get(keys[i]);
+			if (value != null || map.containsKey(keys[i])) {
+				accessors[i].set(obj, value);
+			}
+		}
+		return obj;
+	}
+}
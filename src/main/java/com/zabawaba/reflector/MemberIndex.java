@@ -0,0 +1,123 @@
+package com.zabawaba.reflector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The compile time index of a class annotated with {@link Indexed}. For every
+ * field and method name it records the class that declares the member
+ * closest to the indexed class, so a lookup by name only has to reflect on
+ * that one class and the ones below it. Bridge and other synthetic methods
+ * only exist in the compiled classes and aren't recorded.
+ * <p>
+ * The index is a UTF-8 text resource with one member per line:
+ * 
+ * <pre>
+ * field &lt;name&gt; &lt;declaring class&gt;
+ * method &lt;name&gt; &lt;declaring class&gt;
+ * </pre>
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MemberIndex {
+
+	static final String HEADER = "# reflector member index 1";
+	static final String FIELD = "field";
+	static final String METHOD = "method";
+
+	private final Map<String, String> fields;
+	private final Map<String, String> methods;
+
+	private MemberIndex(Map<String, String> fields, Map<String, String> methods) {
+		this.fields = fields;
+		this.methods = methods;
+	}
+
+	/**
+	 * @param binaryName
+	 *            The binary name of an indexed class
+	 * @return The name of the resource holding the class's index
+	 */
+	static String resourceName(String binaryName) {
+		return "META-INF/reflector/" + binaryName + ".idx";
+	}
+
+	/**
+	 * Reads the index of a class annotated with {@link Indexed} from the
+	 * class's own class loader.
+	 * 
+	 * @param type
+	 *            The class to read the index of
+	 * @return The index or {@code null} if the class has none or it can't be
+	 *         read
+	 */
+	static MemberIndex load(Class<?> type) {
+		ClassLoader loader = type.getClassLoader();
+		if (loader == null || !type.isAnnotationPresent(Indexed.class)) {
+			return null;
+		}
+		InputStream in = loader.getResourceAsStream(resourceName(type.getName()));
+		if (in == null) {
+			return null;
+		}
+		try {
+			try {
+				return read(new BufferedReader(new InputStreamReader(in, "UTF-8")));
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			// an unreadable index is the same as none
+			return null;
+		}
+	}
+
+	private static MemberIndex read(BufferedReader reader) throws IOException {
+		if (!HEADER.equals(reader.readLine())) {
+			return null;
+		}
+		Map<String, String> fields = new HashMap<String, String>();
+		Map<String, String> methods = new HashMap<String, String>();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			String[] parts = line.split(" ");
+			if (parts.length != 3) {
+				return null;
+			}
+			if (FIELD.equals(parts[0])) {
+				fields.put(parts[1], parts[2]);
+			} else if (METHOD.equals(parts[0])) {
+				methods.put(parts[1], parts[2]);
+			} else {
+				return null;
+			}
+		}
+		return new MemberIndex(Collections.unmodifiableMap(fields), Collections.unmodifiableMap(methods));
+	}
+
+	/**
+	 * @param name
+	 *            The name of a field
+	 * @return The binary name of the class declaring the field, or
+	 *         {@code null} if it isn't indexed
+	 */
+	String fieldOwner(String name) {
+		return fields.get(name);
+	}
+
+	/**
+	 * @param name
+	 *            The name of a method
+	 * @return The binary name of the class declaring the method, or
+	 *         {@code null} if it isn't indexed
+	 */
+	String methodOwner(String name) {
+		return methods.get(name);
+	}
+}
@@ -0,0 +1,109 @@
+package com.zabawaba.reflector;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes a {@link MemberIndex} for every class annotated with
+ * {@link Indexed}. The processor is registered as a service, so it runs
+ * whenever reflector is on the compiler's classpath.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public class MemberIndexProcessor extends AbstractProcessor {
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(Indexed.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Indexed.class)) {
+			if (element.getKind() != ElementKind.CLASS) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"@Indexed can only be used on classes", element);
+				continue;
+			}
+			write((TypeElement) element);
+		}
+		return true;
+	}
+
+	private void write(TypeElement type) {
+		// name -> declaring class, subclass first so the closest one wins
+		Map<String, String> fields = new LinkedHashMap<String, String>();
+		Map<String, String> methods = new LinkedHashMap<String, String>();
+		TypeElement current = type;
+		while (current != null) {
+			String declaringClass = processingEnv.getElementUtils().getBinaryName(current).toString();
+			for (Element member : current.getEnclosedElements()) {
+				String name = member.getSimpleName().toString();
+				if (member.getKind() == ElementKind.FIELD || member.getKind() == ElementKind.ENUM_CONSTANT) {
+					putIfAbsent(fields, name, declaringClass);
+				} else if (member.getKind() == ElementKind.METHOD) {
+					putIfAbsent(methods, name, declaringClass);
+				}
+			}
+			current = superclass(current);
+		}
+
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					MemberIndex.resourceName(binaryName), type);
+			Writer writer = file.openWriter();
+			try {
+				writer.write(MemberIndex.HEADER + "\n");
+				for (Map.Entry<String, String> e : fields.entrySet()) {
+					writer.write(MemberIndex.FIELD + " " + e.getKey() + " " + e.getValue() + "\n");
+				}
+				for (Map.Entry<String, String> e : methods.entrySet()) {
+					writer.write(MemberIndex.METHOD + " " + e.getKey() + " " + e.getValue() + "\n");
+				}
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Could not write member index: " + e.getMessage(), type);
+		}
+	}
+
+	private static void putIfAbsent(Map<String, String> map, String key, String value) {
+		if (!map.containsKey(key)) {
+			map.put(key, value);
+		}
+	}
+
+	private static TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		return (TypeElement) ((DeclaredType) superclass).asElement();
+	}
+}
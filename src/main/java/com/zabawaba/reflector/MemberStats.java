@@ -0,0 +1,114 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Member;
+
+/**
+ * A snapshot of the calls made to one member, see
+ * {@link ReflectorMetrics#memberStats()}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class MemberStats {
+
+	private final Member member;
+	private final long calls;
+	private final long errors;
+	private final long totalNanos;
+	private final long maxNanos;
+	private final long[] buckets;
+
+	MemberStats(MetricsRegistry.Counter counter) {
+		this.member = counter.member;
+		// read the histogram first so it never holds more samples than the
+		// counters account for
+		this.buckets = new long[MetricsRegistry.Counter.BUCKETS];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = counter.buckets.get(i);
+		}
+		this.calls = counter.calls.get();
+		this.errors = counter.errors.get();
+		this.totalNanos = counter.totalNanos.get();
+		this.maxNanos = counter.maxNanos.get();
+	}
+
+	/**
+	 * @return The field, method or constructor that was called
+	 */
+	public Member getMember() {
+		return member;
+	}
+
+	/**
+	 * @return The number of calls, each target of a batch invocation counts
+	 *         as one call
+	 */
+	public long getCalls() {
+		return calls;
+	}
+
+	/**
+	 * @return The number of calls that threw an exception
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * @return The time spent in all calls, in nanoseconds
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return The longest call, in nanoseconds
+	 */
+	public long getMaxNanos() {
+		return maxNanos;
+	}
+
+	/**
+	 * @return The average time of a call, in nanoseconds
+	 */
+	public long getMeanNanos() {
+		return calls == 0 ? 0 : totalNanos / calls;
+	}
+
+	/**
+	 * Estimates a latency percentile. Latencies are recorded in power of two
+	 * buckets, so the result is the upper bound of the bucket the percentile
+	 * falls into and may be up to twice the actual value.
+	 * 
+	 * @param percentile
+	 *            The percentile, between 0 and 100
+	 * @return The latency below which the given percentage of the calls
+	 *         fall, in nanoseconds
+	 * @throws IllegalArgumentException
+	 *             if the percentile is not between 0 and 100
+	 */
+	public long getPercentileNanos(double percentile) {
+		if (!(percentile >= 0 && percentile <= 100)) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+		}
+		long samples = 0;
+		for (long count : buckets) {
+			samples += count;
+		}
+		long rank = (long) Math.ceil(samples * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			seen += buckets[i];
+			if (buckets[i] > 0 && seen >= rank) {
+				return Math.min(i == 62 ? Long.MAX_VALUE : (2L << i) - 1, maxNanos);
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return member + " [calls=" + calls + ", errors=" + errors + ", meanNanos=" + getMeanNanos()
+				+ ", p99Nanos=" + getPercentileNanos(99) + ", maxNanos=" + maxNanos + "]";
+	}
+}
@@ -0,0 +1,64 @@
+package com.zabawaba.reflector;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Marks a {@link Filter} whose per-class results may be cached, see
+ * {@link Filters#memoized(Filter)}. Two memoized filters share cached
+ * results when the filters they wrap are equal.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MemoizedFilter<T> implements Filter<T> {
+
+	private final Filter<T> filter;
+	private final Class<?>[] classes;
+
+	MemoizedFilter(Filter<T> filter) {
+		this.filter = filter;
+		Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+		Filters.collectClasses(filter, classes);
+		this.classes = classes.toArray(new Class<?>[classes.size()]);
+	}
+
+	Filter<T> getFilter() {
+		return filter;
+	}
+
+	/**
+	 * @param type
+	 *            The class whose members are filtered
+	 * @return true if the results can be cached in the metadata of the class
+	 *         without keeping the filter's class loaders alive, see
+	 *         {@link ClassMetadata#canReference(Class, Class)}
+	 */
+	boolean canBeCachedBy(Class<?> type) {
+		for (Class<?> c : classes) {
+			if (!ClassMetadata.canReference(type, c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean apply(T object) {
+		return filter.apply(object);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof MemoizedFilter && filter.equals(((MemoizedFilter<?>) obj).filter);
+	}
+
+	@Override
+	public int hashCode() {
+		return filter.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "memoized(" + filter + ")";
+	}
+}
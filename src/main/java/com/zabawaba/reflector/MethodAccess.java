@@ -0,0 +1,56 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes a single method for an {@link AccessEngine}.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public abstract class MethodAccess {
+
+	private final Method method;
+
+	protected MethodAccess(Method method) {
+		this.method = method;
+	}
+
+	/**
+	 * @return The method that is invoked
+	 */
+	public final Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Invokes the method, see {@link Method#invoke(Object, Object...)}
+	 * 
+	 * @param target
+	 *            The object to invoke the method on, ignored for static
+	 *            methods
+	 * @param params
+	 *            The parameters to invoke the method with
+	 * @return The value the method returned, {@code null} for void methods
+	 * @throws InvocationTargetException
+	 *             if the method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if the target or parameters don't match the method
+	 * @throws IllegalAccessException
+	 *             if the method is not accessible
+	 */
+	public abstract Object invoke(Object target, Object[] params)
+			throws InvocationTargetException, IllegalArgumentException, IllegalAccessException;
+
+	/**
+	 * Invokes the method on a range of targets with the same parameters, see
+	 * {@link ReflectorMethod#invokeAll(Object[], Object...)}
+	 */
+	void invokeAll(Object[] targets, int from, int to, Object[] params, Object[] results)
+			throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+		for (int i = from; i < to; i++) {
+			results[i] = invoke(targets[i], params);
+		}
+	}
+}
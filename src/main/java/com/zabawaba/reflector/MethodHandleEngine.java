@@ -0,0 +1,43 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Accesses members through the {@link java.lang.invoke.MethodHandle} based
+ * {@link FieldAccessor}, {@link MethodInvoker} and
+ * {@link ConstructorInvoker}, which are shared per member.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MethodHandleEngine implements AccessEngine {
+
+	static final String NAME = "methodHandles";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getPriority() {
+		return 100;
+	}
+
+	@Override
+	public FieldAccess forField(Field field) {
+		return FieldAccessor.forField(field);
+	}
+
+	@Override
+	public MethodAccess forMethod(Method method) {
+		return MethodInvoker.forMethod(method);
+	}
+
+	@Override
+	public ConstructorAccess forConstructor(Constructor<?> constructor) {
+		return ConstructorInvoker.forConstructor(constructor);
+	}
+}
@@ -0,0 +1,157 @@
+package com.zabawaba.reflector;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a {@link Method} through a {@link MethodHandle} that is created once
+ * and reused for every call. When no handle can be created, or the arguments
+ * need more than unboxing to match the parameters, {@link Method#invoke} is
+ * used instead.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MethodInvoker extends MethodAccess {
+
+	private final Class<?>[] parameterTypes;
+	private final Class<?>[] wrappedTypes;
+	private final boolean isStatic;
+
+	// (Object, Object[])Object, null if the method can only be invoked
+	// through reflection
+	private final MethodHandle handle;
+
+	MethodInvoker(Method method) {
+		super(method);
+		this.parameterTypes = method.getParameterTypes();
+		this.wrappedTypes = Handles.wrap(parameterTypes);
+		this.isStatic = Modifier.isStatic(method.getModifiers());
+		this.handle = createHandle(method, parameterTypes.length, isStatic);
+	}
+
+	/**
+	 * Gets the invoker for the given method. Invokers of accessible methods
+	 * are shared through the {@link ClassMetadata} of the declaring class.
+	 *
+	 * @param method
+	 *            The method to invoke
+	 * @return The invoker for the method
+	 */
+	static MethodInvoker forMethod(Method method) {
+		if (!method.isAccessible()) {
+			// a shared invoker could skip the access checks this method
+			// instance is subject to
+			return new MethodInvoker(method);
+		}
+		return ClassMetadata.forClass(method.getDeclaringClass()).invoker(method);
+	}
+
+	/**
+	 * @return true if the method is invoked through a {@link MethodHandle}
+	 */
+	boolean hasHandle() {
+		return handle != null;
+	}
+
+	/**
+	 * Invokes the method, see {@link Method#invoke(Object, Object...)}
+	 *
+	 * @param target
+	 *            The object to invoke the method on, ignored for static
+	 *            methods
+	 * @param params
+	 *            The parameters to invoke the method with
+	 * @return The value the method returned, {@code null} for void methods
+	 * @throws InvocationTargetException
+	 *             if the method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if the target or parameters don't match the method
+	 * @throws IllegalAccessException
+	 *             if the method is not accessible
+	 */
+	@Override
+	public Object invoke(Object target, Object[] params)
+			throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+		if (handle == null || !isStatic && !getMethod().getDeclaringClass().isInstance(target)
+				|| !Handles.accepts(parameterTypes, wrappedTypes, params)) {
+			return getMethod().invoke(target, params);
+		}
+		try {
+			return handle.invokeExact(target, params);
+		} catch (Throwable t) {
+			// the arguments were checked, so this came from the method itself
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Invokes the method on a range of targets with the same parameters. The
+	 * parameters are only checked once for the whole range.
+	 *
+	 * @param targets
+	 *            The objects to invoke the method on
+	 * @param from
+	 *            The index of the first target, inclusive
+	 * @param to
+	 *            The index of the last target, exclusive
+	 * @param params
+	 *            The parameters to invoke the method with
+	 * @param results
+	 *            Receives the value returned for each target at the target's
+	 *            index
+	 * @throws InvocationTargetException
+	 *             if the method throws an exception, the remaining targets
+	 *             are skipped
+	 * @throws IllegalArgumentException
+	 *             if a target or the parameters don't match the method
+	 * @throws IllegalAccessException
+	 *             if the method is not accessible
+	 */
+	@Override
+	void invokeAll(Object[] targets, int from, int to, Object[] params, Object[] results)
+			throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+		if (handle == null || !Handles.accepts(parameterTypes, wrappedTypes, params)) {
+			for (int i = from; i < to; i++) {
+				results[i] = getMethod().invoke(targets[i], params);
+			}
+			return;
+		}
+		Class<?> declaringClass = getMethod().getDeclaringClass();
+		for (int i = from; i < to; i++) {
+			Object target = targets[i];
+			if (!isStatic && !declaringClass.isInstance(target)) {
+				// let reflection report the target
+				results[i] = getMethod().invoke(target, params);
+				continue;
+			}
+			try {
+				results[i] = handle.invokeExact(target, params);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
+
+	private static MethodHandle createHandle(Method method, int arity, boolean isStatic) {
+		try {
+			MethodHandle handle = Handles.LOOKUP.unreflect(method);
+			if (isStatic) {
+				handle = handle.asType(MethodType.genericMethodType(arity));
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			} else {
+				handle = handle.asType(MethodType.genericMethodType(arity + 1));
+			}
+			return handle.asSpreader(Object[].class, arity);
+		} catch (IllegalAccessException e) {
+			return null;
+		} catch (RuntimeException e) {
+			// e.g. too many parameters for a handle
+			return null;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.zabawaba.reflector;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.HashSet;
 
 /**
@@ -17,11 +18,7 @@ public class Methods {
 	 * true when given a method who's {@link Modifier}s contain
 	 * {@link Modifier#PUBLIC}
 	 */
-	public static Filter<Method> PUBLIC_METHODS = new Filter<Method>() {
-		public boolean apply(Method method) {
-			return (method.getModifiers() & Modifier.PUBLIC) == Modifier.PUBLIC;
-		}
-	};
+	public static Filter<Method> PUBLIC_METHODS = ModifierFilter.requiring(Modifier.PUBLIC);
 
 	private static Filter<Method> ALL_METHODS = new Filter<Method>() {
 		public boolean apply(Method method) {
@@ -29,14 +26,18 @@ public class Methods {
 		}
 	};
 
+	private Class<?> type;
 	private Object obj;
 
-	private Methods(Object obj) {
+	private Methods(Class<?> type, Object obj) {
+		this.type = type;
 		this.obj = obj;
 	}
 
 	/**
-	 * Get a method that has the given name
+	 * Get a method that has the given name. Methods declared closest to the
+	 * object's class are preferred. If that class overloads the method, the
+	 * overload with the fewest parameters is returned.
 	 * 
 	 * @param methodName
 	 *            The name of the method to look for
@@ -46,16 +47,60 @@ public class Methods {
 	 *             If no method exists with the provided name
 	 */
 	public ReflectorMethod get(String methodName) throws NoSuchMethodException {
-		ReflectorMethod method = null;
-		for (ReflectorMethod m : list()) {
-			if (m.getMethod().getName().equals(methodName)) {
-				method = m;
-			}
-		}
+		Object event = Events.beginLookup();
+		Method method = ClassMetadata.forClass(type).method(methodName);
+		Events.endLookup(event, type, "method", methodName, null, method == null ? 0 : 1);
 		if (method == null) {
 			throw new NoSuchMethodException(methodName);
 		}
-		return method;
+		return new ReflectorMethod(obj, method);
+	}
+
+	/**
+	 * Get the method that has the given name and parameter types. If no
+	 * method declares exactly these parameter types, the most specific
+	 * overload that accepts them is returned, the same way the compiler would
+	 * pick one. Overridden methods are never returned.
+	 * 
+	 * @param methodName
+	 *            The name of the method to look for
+	 * @param parameterTypes
+	 *            The parameter types of the method. A {@code null} type
+	 *            stands for a {@code null} argument and matches any reference
+	 *            type.
+	 * @return The method that matches the name and parameter types
+	 * 
+	 * @throws NoSuchMethodException
+	 *             If no method accepts the parameter types
+	 */
+	public ReflectorMethod get(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+		if (parameterTypes == null) {
+			parameterTypes = new Class<?>[0];
+		}
+		Object event = Events.beginLookup();
+		Method method = ClassMetadata.forClass(type).method(methodName, parameterTypes);
+		Events.endLookup(event, type, "method", methodName, null, method == null ? 0 : 1);
+		if (method == null) {
+			throw new NoSuchMethodException(methodName + Arrays.toString(parameterTypes));
+		}
+		return new ReflectorMethod(obj, method);
+	}
+
+	/**
+	 * Get the method with the given name that is the best match for the
+	 * given arguments, see {@link #get(String, Class...)}
+	 * 
+	 * @param methodName
+	 *            The name of the method to look for
+	 * @param args
+	 *            The arguments the method will be called with
+	 * @return The method that best matches the arguments
+	 * 
+	 * @throws NoSuchMethodException
+	 *             If no method accepts the arguments
+	 */
+	public ReflectorMethod resolve(String methodName, Object... args) throws NoSuchMethodException {
+		return get(methodName, Signatures.typesOf(args));
 	}
 
 	/**
@@ -80,25 +125,106 @@ public class Methods {
 	 *         criteria
 	 */
 	public HashSet<ReflectorMethod> list(Filter<Method> filter) {
+		Object event = Events.beginLookup();
+		Filter<Method> requested = filter;
 		HashSet<ReflectorMethod> methods = new HashSet<ReflectorMethod>();
 
 		if (filter == null) {
 			filter = ALL_METHODS;
 		}
 
-		Class<?> currentClass = obj.getClass();
-		while (currentClass != null) {
-			for (Method m : currentClass.getDeclaredMethods()) {
-				m.setAccessible(true);
-				if (filter.apply(m)) {
-					methods.add(new ReflectorMethod(obj, m));
-				}
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		Method[] candidates = metadata.methods();
+		if (filter instanceof MemoizedFilter) {
+			// memoized results are already filtered
+			candidates = metadata.select(candidates, filter);
+			filter = ALL_METHODS;
+		}
+
+		for (Method m : candidates) {
+			if (filter.apply(m)) {
+				methods.add(new ReflectorMethod(obj, m));
 			}
-			currentClass = currentClass.getSuperclass();
 		}
+		Events.endLookup(event, type, "method", null, requested, methods.size());
 		return methods;
 	}
 
+	/**
+	 * Gets one {@link Method} per signature for the given class: the most
+	 * specific override declared by the class or its superclasses, or else
+	 * the most specific default method of an interface the class implements.
+	 * Overridden, bridge and synthetic methods are left out. The methods are
+	 * collected once per class.
+	 * 
+	 * @return A {@link HashSet} containing the methods that are called for
+	 *         each signature
+	 */
+	public HashSet<ReflectorMethod> listDistinct() {
+		return listDistinct(null);
+	}
+
+	/**
+	 * Gets the methods returned by {@link #listDistinct()} where
+	 * {@link Filter#apply(Object)} returns true
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a method is added to
+	 *            the return. If {@code null} all methods will be returned.
+	 * @return A {@link HashSet} containing the methods that are called for
+	 *         each signature and that meet the filtering criteria
+	 */
+	public HashSet<ReflectorMethod> listDistinct(Filter<Method> filter) {
+		Object event = Events.beginLookup();
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		Method[] candidates = metadata.select(metadata.distinctMethods(), filter);
+		HashSet<ReflectorMethod> methods = new HashSet<ReflectorMethod>();
+		for (Method m : candidates) {
+			methods.add(new ReflectorMethod(obj, m));
+		}
+		Events.endLookup(event, type, "method", null, filter, methods.size());
+		return methods;
+	}
+
+	/**
+	 * Lazily iterates over the {@link Method}s for the given class and all of its superclasses
+	 * where {@link Filter#apply(Object)} returns true. The filter is applied
+	 * as the iteration advances and a {@link ReflectorMethod} is only created for
+	 * the methods that are returned, so stopping early skips the remaining work.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a method is
+	 *            returned. If {@code null} all methods will be returned.
+	 * @return An {@link Iterable} over the methods that meet the filtering
+	 *         criteria
+	 */
+	public Iterable<ReflectorMethod> iterate(Filter<Method> filter) {
+		final Object target = obj;
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		return new FilteredIterable<Method, ReflectorMethod>(metadata, metadata.methods(), filter) {
+			@Override
+			ReflectorMethod wrap(Method method) {
+				return new ReflectorMethod(target, method);
+			}
+		};
+	}
+
+	/**
+	 * Passes the {@link Method}s for the given class and all of its superclasses where
+	 * {@link Filter#apply(Object)} returns true to the visitor, until the
+	 * visitor returns false. No wrappers or collections are created.
+	 * 
+	 * @param filter
+	 *            The filter that determines whether or not a method is
+	 *            visited. If {@code null} all methods will be visited.
+	 * @param visitor
+	 *            The visitor to pass the methods to
+	 */
+	public void forEach(Filter<Method> filter, Visitor<Method> visitor) {
+		ClassMetadata metadata = ClassMetadata.forClass(type);
+		FilteredIterable.visit(metadata, metadata.methods(), filter, visitor);
+	}
+
 	/**
 	 * Builds a new Methods object with context of the object you want to
 	 * Reflect over
@@ -108,7 +234,21 @@ public class Methods {
 	 * @return A newly created Methods object
 	 */
 	public static Methods forObj(Object obj) {
-		return new Methods(obj);
+		return new Methods(obj.getClass(), obj);
+	}
+
+	/**
+	 * Builds a new Methods object with the context of a class instead of an
+	 * object. The returned wrappers aren't bound to any object, so they can
+	 * be resolved once and used with any instance of the class through the
+	 * methods that take a target.
+	 * 
+	 * @param type
+	 *            The class whos methods you want to Reflect over
+	 * @return A newly created Methods object
+	 */
+	public static Methods forClass(Class<?> type) {
+		return new Methods(type, null);
 	}
 
 	/**
@@ -140,18 +280,11 @@ public class Methods {
 	 * @param modifiers
 	 *            Modifiers that a method should have. See {@link Modifier}
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
-	 *         true for any method that has all of the provided modifiers
-	 */
-	public static Filter<Method> thatHaveModifiers(final int... modifiers) {
-		return new Filter<Method>() {
-			public boolean apply(Method method) {
-				boolean valid = true;
-				for (int modifier : modifiers) {
-					valid &= (method.getModifiers() & modifier) == modifier;
-				}
-				return valid;
-			}
-		};
+	 *         true for any method that has all of the provided modifiers. The
+	 *         modifiers are checked with a single mask comparison.
+	 */
+	public static Filter<Method> thatHaveModifiers(int... modifiers) {
+		return ModifierFilter.requiring(modifiers);
 	}
 
 	/**
@@ -161,12 +294,8 @@ public class Methods {
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
 	 *         true for any method who's name starts with the given prefix
 	 */
-	public static Filter<Method> thatStartWith(final String prefix) {
-		return new Filter<Method>() {
-			public boolean apply(Method method) {
-				return method.getName().startsWith(prefix);
-			}
-		};
+	public static Filter<Method> thatStartWith(String prefix) {
+		return NameFilter.startingWith(prefix);
 	}
 
 	/**
@@ -176,11 +305,7 @@ public class Methods {
 	 * @return a {@link Filter} where {@link Filter#apply(Object)} will return
 	 *         true for any method who's name ends with the given suffix
 	 */
-	public static Filter<Method> thatEndWith(final String suffix) {
-		return new Filter<Method>() {
-			public boolean apply(Method method) {
-				return method.getName().endsWith(suffix);
-			}
-		};
+	public static Filter<Method> thatEndWith(String suffix) {
+		return NameFilter.endingWith(suffix);
 	}
 }
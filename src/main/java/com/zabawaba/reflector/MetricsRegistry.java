@@ -0,0 +1,364 @@
+package com.zabawaba.reflector;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the metrics {@link ReflectorMetrics} reports. Everything is
+ * skipped unless the {@code reflector.metrics} system property is true when
+ * the class is loaded, in which case the accesses handed out by
+ * {@link Engines} are wrapped so they record every call.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class MetricsRegistry {
+
+	static final boolean ENABLED = Boolean.getBoolean("reflector.metrics");
+
+	// the caches hits and misses are counted for
+	static final int MEMBERS = 0;
+	static final int NAMES = 1;
+	static final int SIGNATURES = 2;
+	static final int FILTERS = 3;
+	static final String[] CACHE_NAMES = { "members", "names", "signatures", "filters" };
+
+	// the counters live in the metadata of each member's class, which is only
+	// held weakly here so metrics never keep a class loader alive
+	private static final Queue<WeakReference<ClassMetadata>> MEASURED = new ConcurrentLinkedQueue<WeakReference<ClassMetadata>>();
+	private static final AtomicLongArray CACHE_HITS = new AtomicLongArray(CACHE_NAMES.length);
+	private static final AtomicLongArray CACHE_MISSES = new AtomicLongArray(CACHE_NAMES.length);
+
+	private MetricsRegistry() {
+	}
+
+	/**
+	 * Counts a lookup in one of the caches, callers check {@link #ENABLED}
+	 * first
+	 */
+	static void cache(int cache, boolean hit) {
+		if (hit) {
+			CACHE_HITS.incrementAndGet(cache);
+		} else {
+			CACHE_MISSES.incrementAndGet(cache);
+		}
+	}
+
+	static long cacheHits(int cache) {
+		return CACHE_HITS.get(cache);
+	}
+
+	static long cacheMisses(int cache) {
+		return CACHE_MISSES.get(cache);
+	}
+
+	/**
+	 * Called by {@link ClassMetadata} when it creates its first counter
+	 */
+	static void measured(ClassMetadata metadata) {
+		MEASURED.add(new WeakReference<ClassMetadata>(metadata));
+	}
+
+	/**
+	 * @return The counters of every class that is still loaded
+	 */
+	static List<Counter> counters() {
+		List<Counter> counters = new ArrayList<Counter>();
+		for (Iterator<WeakReference<ClassMetadata>> it = MEASURED.iterator(); it.hasNext();) {
+			ClassMetadata metadata = it.next().get();
+			if (metadata == null) {
+				// the class was unloaded
+				it.remove();
+			} else {
+				counters.addAll(metadata.counters());
+			}
+		}
+		return counters;
+	}
+
+	/**
+	 * Zeroes every counter in place, the measured accesses keep their
+	 * counters for as long as their class is loaded
+	 */
+	static void reset() {
+		for (Counter counter : counters()) {
+			counter.reset();
+		}
+		for (int i = 0; i < CACHE_NAMES.length; i++) {
+			CACHE_HITS.set(i, 0);
+			CACHE_MISSES.set(i, 0);
+		}
+	}
+
+	static Counter counter(Member member) {
+		return ClassMetadata.forClass(member.getDeclaringClass()).counter(member);
+	}
+
+	static FieldAccess measure(FieldAccess access) {
+		return ENABLED ? new MeasuredFieldAccess(access) : access;
+	}
+
+	static MethodAccess measure(MethodAccess access) {
+		return ENABLED ? new MeasuredMethodAccess(access) : access;
+	}
+
+	static ConstructorAccess measure(ConstructorAccess access) {
+		return ENABLED ? new MeasuredConstructorAccess(access) : access;
+	}
+
+	/**
+	 * The counters of a single member. Latencies are kept in power of two
+	 * buckets, so percentiles are accurate to a factor of two.
+	 */
+	static final class Counter {
+		static final int BUCKETS = 64;
+
+		final Member member;
+		final AtomicLong calls = new AtomicLong();
+		final AtomicLong errors = new AtomicLong();
+		final AtomicLong totalNanos = new AtomicLong();
+		final AtomicLong maxNanos = new AtomicLong();
+		// bucket i counts latencies in [2^i, 2^(i+1)) nanoseconds
+		final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		Counter(Member member) {
+			this.member = member;
+		}
+
+		void reset() {
+			calls.set(0);
+			errors.set(0);
+			totalNanos.set(0);
+			maxNanos.set(0);
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets.set(i, 0);
+			}
+		}
+
+		void record(long start, boolean succeeded) {
+			record(start, succeeded, 1);
+		}
+
+		void record(long start, boolean succeeded, int count) {
+			long nanos = System.nanoTime() - start;
+			calls.addAndGet(count);
+			if (!succeeded) {
+				errors.incrementAndGet();
+			}
+			totalNanos.addAndGet(nanos);
+			buckets.incrementAndGet(nanos <= 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+			long max = maxNanos.get();
+			while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+				max = maxNanos.get();
+			}
+		}
+	}
+
+	private static final class MeasuredFieldAccess extends FieldAccess {
+		private final FieldAccess access;
+		private final Counter counter;
+
+		MeasuredFieldAccess(FieldAccess access) {
+			super(access.getField());
+			this.access = access;
+			this.counter = counter(access.getField());
+		}
+
+		@Override
+		public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				Object value = access.get(target);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.set(target, value);
+				succeeded = true;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				int value = access.getInt(target);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.setInt(target, value);
+				succeeded = true;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				long value = access.getLong(target);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.setLong(target, value);
+				succeeded = true;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				double value = access.getDouble(target);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.setDouble(target, value);
+				succeeded = true;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				boolean value = access.getBoolean(target);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		public void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.setBoolean(target, value);
+				succeeded = true;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+	}
+
+	private static final class MeasuredMethodAccess extends MethodAccess {
+		private final MethodAccess access;
+		private final Counter counter;
+
+		MeasuredMethodAccess(MethodAccess access) {
+			super(access.getMethod());
+			this.access = access;
+			this.counter = counter(access.getMethod());
+		}
+
+		@Override
+		public Object invoke(Object target, Object[] params)
+				throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				Object value = access.invoke(target, params);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+
+		@Override
+		void invokeAll(Object[] targets, int from, int to, Object[] params, Object[] results)
+				throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				access.invokeAll(targets, from, to, params, results);
+				succeeded = true;
+			} finally {
+				// the whole batch is one latency sample
+				counter.record(start, succeeded, to - from);
+			}
+		}
+	}
+
+	private static final class MeasuredConstructorAccess extends ConstructorAccess {
+		private final ConstructorAccess access;
+		private final Counter counter;
+
+		MeasuredConstructorAccess(ConstructorAccess access) {
+			super(access.getConstructor());
+			this.access = access;
+			this.counter = counter(access.getConstructor());
+		}
+
+		@Override
+		public Object newInstance(Object[] params) throws InstantiationException, IllegalArgumentException,
+				InvocationTargetException, IllegalAccessException {
+			long start = System.nanoTime();
+			boolean succeeded = false;
+			try {
+				Object value = access.newInstance(params);
+				succeeded = true;
+				return value;
+			} finally {
+				counter.record(start, succeeded);
+			}
+		}
+	}
+}
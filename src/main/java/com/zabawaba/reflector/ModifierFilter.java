@@ -0,0 +1,74 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Member;
+
+/**
+ * A {@link Filter} that checks a member's modifiers against two masks with a
+ * single comparison: every required modifier has to be present and every
+ * excluded modifier has to be absent.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class ModifierFilter<T extends Member> implements Filter<T> {
+
+	private final int required;
+	private final int excluded;
+
+	// the bits to look at and the value they must have, -1 if the masks
+	// contradict each other and nothing can match
+	private final int mask;
+	private final int expected;
+
+	ModifierFilter(int required, int excluded) {
+		this.required = required;
+		this.excluded = excluded;
+		this.mask = required | excluded;
+		this.expected = (required & excluded) == 0 ? required : -1;
+	}
+
+	/**
+	 * @param modifiers
+	 *            Modifiers that a member should have. See
+	 *            {@link java.lang.reflect.Modifier}
+	 * @return a filter requiring all of the given modifiers
+	 */
+	static <T extends Member> ModifierFilter<T> requiring(int... modifiers) {
+		int mask = 0;
+		for (int modifier : modifiers) {
+			mask |= modifier;
+		}
+		return new ModifierFilter<T>(mask, 0);
+	}
+
+	public boolean apply(T member) {
+		return (member.getModifiers() & mask) == expected;
+	}
+
+	int getRequired() {
+		return required;
+	}
+
+	int getExcluded() {
+		return excluded;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof ModifierFilter)) {
+			return false;
+		}
+		ModifierFilter<?> other = (ModifierFilter<?>) obj;
+		return required == other.required && excluded == other.excluded;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * required + excluded;
+	}
+
+	@Override
+	public String toString() {
+		return "modifiers(required=" + required + ", excluded=" + excluded + ")";
+	}
+}
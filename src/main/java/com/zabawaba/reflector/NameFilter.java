@@ -0,0 +1,91 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Member;
+import java.util.Arrays;
+
+/**
+ * A {@link Filter} that checks a member's name against any number of
+ * prefixes and suffixes, reading the name only once.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class NameFilter<T extends Member> implements Filter<T> {
+
+	private static final String[] NONE = new String[0];
+
+	private final String[] prefixes;
+	private final String[] suffixes;
+
+	NameFilter(String[] prefixes, String[] suffixes) {
+		this.prefixes = prefixes;
+		this.suffixes = suffixes;
+	}
+
+	/**
+	 * @param prefix
+	 *            The string that a member's name should start with
+	 * @return a filter matching names that start with the prefix
+	 */
+	static <T extends Member> NameFilter<T> startingWith(String prefix) {
+		return new NameFilter<T>(new String[] { prefix }, NONE);
+	}
+
+	/**
+	 * @param suffix
+	 *            The string that a member's name should end with
+	 * @return a filter matching names that end with the suffix
+	 */
+	static <T extends Member> NameFilter<T> endingWith(String suffix) {
+		return new NameFilter<T>(NONE, new String[] { suffix });
+	}
+
+	public boolean apply(T member) {
+		String name = member.getName();
+		for (String prefix : prefixes) {
+			if (!name.startsWith(prefix)) {
+				return false;
+			}
+		}
+		for (String suffix : suffixes) {
+			if (!name.endsWith(suffix)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param other
+	 *            Another name filter
+	 * @return a filter matching names that both filters match
+	 */
+	NameFilter<T> and(NameFilter<?> other) {
+		return new NameFilter<T>(concat(prefixes, other.prefixes), concat(suffixes, other.suffixes));
+	}
+
+	private static String[] concat(String[] a, String[] b) {
+		String[] result = Arrays.copyOf(a, a.length + b.length);
+		System.arraycopy(b, 0, result, a.length, b.length);
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof NameFilter)) {
+			return false;
+		}
+		NameFilter<?> other = (NameFilter<?>) obj;
+		return Arrays.equals(prefixes, other.prefixes) && Arrays.equals(suffixes, other.suffixes);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(prefixes) + Arrays.hashCode(suffixes);
+	}
+
+	@Override
+	public String toString() {
+		return "name(prefixes=" + Arrays.toString(prefixes) + ", suffixes=" + Arrays.toString(suffixes) + ")";
+	}
+}
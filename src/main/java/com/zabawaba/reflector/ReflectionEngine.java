@@ -0,0 +1,65 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Accesses members through core reflection. Nothing has to be set up, which
+ * makes it the engine members start out on.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class ReflectionEngine implements AccessEngine {
+
+	static final String NAME = "reflection";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int getPriority() {
+		return 0;
+	}
+
+	@Override
+	public FieldAccess forField(final Field field) {
+		return new FieldAccess(field) {
+			@Override
+			public Object get(Object target) throws IllegalArgumentException, IllegalAccessException {
+				return field.get(target);
+			}
+
+			@Override
+			public void set(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+				field.set(target, value);
+			}
+		};
+	}
+
+	@Override
+	public MethodAccess forMethod(final Method method) {
+		return new MethodAccess(method) {
+			@Override
+			public Object invoke(Object target, Object[] params)
+					throws InvocationTargetException, IllegalArgumentException, IllegalAccessException {
+				return method.invoke(target, params);
+			}
+		};
+	}
+
+	@Override
+	public ConstructorAccess forConstructor(final Constructor<?> constructor) {
+		return new ConstructorAccess(constructor) {
+			@Override
+			public Object newInstance(Object[] params) throws InstantiationException, IllegalArgumentException,
+					InvocationTargetException, IllegalAccessException {
+				return constructor.newInstance(params);
+			}
+		};
+	}
+}
@@ -0,0 +1,281 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Operations that work on whole classes rather than on single members
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class Reflector {
+
+	// classes resolved by a single task before it stops splitting
+	private static final int WARM_UP_BATCH = 8;
+
+	private Reflector() {
+	}
+
+	/**
+	 * Resolves the fields, methods and constructors of the given classes in
+	 * parallel, so later calls to {@link Fields}, {@link Methods} and
+	 * {@link Constructors} for them don't pay for it. Uses a new
+	 * {@link ForkJoinPool} that is shut down afterwards.
+	 * 
+	 * @param classes
+	 *            The classes to warm up
+	 * @return Statistics about the warm up
+	 */
+	public static WarmUpStats warmUp(Collection<? extends Class<?>> classes) {
+		ForkJoinPool pool = new ForkJoinPool();
+		try {
+			return warmUp(classes, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Resolves the fields, methods and constructors of the given classes in
+	 * parallel on the given pool, so later calls to {@link Fields},
+	 * {@link Methods} and {@link Constructors} for them don't pay for it.
+	 * Classes whose members can't be resolved, and {@code null} elements, are
+	 * counted as failed and skipped.
+	 * 
+	 * @param classes
+	 *            The classes to warm up
+	 * @param pool
+	 *            The pool to run on
+	 * @return Statistics about the warm up
+	 */
+	public static WarmUpStats warmUp(Collection<? extends Class<?>> classes, ForkJoinPool pool) {
+		List<Class<?>> list = new ArrayList<Class<?>>(classes);
+		WarmUpTask task = new WarmUpTask(list, 0, list.size());
+		long start = System.nanoTime();
+		pool.invoke(task);
+		long elapsed = System.nanoTime() - start;
+		return new WarmUpStats(list.size(), task.failed.get(), task.members.get(), elapsed, task.scanNanos.get());
+	}
+
+	/**
+	 * Copies the fields of the source into the fields with the same name of
+	 * the target, see {@link Copier}
+	 * 
+	 * @param source
+	 *            The object to copy fields from
+	 * @param target
+	 *            The object to copy fields to
+	 * @return The target
+	 * @throws IllegalAccessException
+	 *             if a field can't be read or written
+	 */
+	public static <T> T copy(Object source, T target) throws IllegalAccessException {
+		return Copier.between(source.getClass(), target.getClass()).copy(source, target);
+	}
+
+	/**
+	 * Puts the value of every instance field of the object into a new map,
+	 * keyed by field name. Shadowed fields are left out.
+	 * 
+	 * @param obj
+	 *            The object to convert
+	 * @return The field values in the order of {@link Fields#list()}
+	 * @throws IllegalAccessException
+	 *             if a field is not accessible
+	 */
+	public static Map<String, Object> toMap(Object obj) throws IllegalAccessException {
+		return ClassMetadata.forClass(obj.getClass()).mapPlan().toMap(obj);
+	}
+
+	/**
+	 * Puts the value of every instance field of the object into the given
+	 * map, keyed by field name. Shadowed fields are left out.
+	 * 
+	 * @param obj
+	 *            The object to convert
+	 * @param map
+	 *            The map to put the field values in
+	 * @return The map
+	 * @throws IllegalAccessException
+	 *             if a field is not accessible
+	 */
+	public static <M extends Map<String, Object>> M toMap(Object obj, M map) throws IllegalAccessException {
+		return ClassMetadata.forClass(obj.getClass()).mapPlan().toMap(obj, map);
+	}
+
+	/**
+	 * Creates an instance of the class through its default constructor and
+	 * sets every instance field that has a key in the map.
+	 * 
+	 * @param map
+	 *            The field values, keyed by field name
+	 * @param type
+	 *            The class to create an instance of
+	 * @return The new instance
+	 * @throws InstantiationException
+	 *             if the class has no default constructor or is abstract
+	 * @throws InvocationTargetException
+	 *             if the default constructor throws an exception
+	 * @throws IllegalAccessException
+	 *             if a field or the constructor is not accessible
+	 * @throws IllegalArgumentException
+	 *             if a value can't be stored in its field
+	 */
+	public static <T> T fromMap(Map<String, ?> map, Class<T> type)
+			throws InstantiationException, InvocationTargetException, IllegalAccessException {
+		return type.cast(ClassMetadata.forClass(type).mapPlan().fromMap(map));
+	}
+
+	/**
+	 * Gets a plan that compares instances of the class using all of their
+	 * instance fields. The fields and their accessors are collected once and
+	 * cached with the rest of the class's metadata for as long as the class
+	 * is loaded.
+	 * 
+	 * @param type
+	 *            The class to compare
+	 * @return The plan
+	 */
+	public static EqualsPlan equalsPlan(Class<?> type) {
+		return new EqualsPlan(ClassMetadata.forClass(type).fieldPlan());
+	}
+
+	/**
+	 * Creates a plan that compares instances of the class using the instance
+	 * fields that pass the filter. Create the plan once and keep it.
+	 * 
+	 * @param type
+	 *            The class to compare
+	 * @param filter
+	 *            The fields to compare, {@code null} for all
+	 * @return The plan
+	 */
+	public static EqualsPlan equalsPlan(Class<?> type, Filter<Field> filter) {
+		return new EqualsPlan(fieldPlan(type, filter));
+	}
+
+	/**
+	 * Gets a plan that hashes instances of the class using all of their
+	 * instance fields. The fields and their accessors are collected once and
+	 * cached with the rest of the class's metadata for as long as the class
+	 * is loaded.
+	 * 
+	 * @param type
+	 *            The class to hash
+	 * @return The plan
+	 */
+	public static HashCodePlan hashCodePlan(Class<?> type) {
+		return new HashCodePlan(ClassMetadata.forClass(type).fieldPlan());
+	}
+
+	/**
+	 * Creates a plan that hashes instances of the class using the instance
+	 * fields that pass the filter. Create the plan once and keep it.
+	 * 
+	 * @param type
+	 *            The class to hash
+	 * @param filter
+	 *            The fields to hash, {@code null} for all
+	 * @return The plan
+	 */
+	public static HashCodePlan hashCodePlan(Class<?> type, Filter<Field> filter) {
+		return new HashCodePlan(fieldPlan(type, filter));
+	}
+
+	/**
+	 * Gets a plan that prints instances of the class with all of their
+	 * instance fields. The fields and their accessors are collected once and
+	 * cached with the rest of the class's metadata for as long as the class
+	 * is loaded.
+	 * 
+	 * @param type
+	 *            The class to print
+	 * @return The plan
+	 */
+	public static ToStringPlan toStringPlan(Class<?> type) {
+		return new ToStringPlan(ClassMetadata.forClass(type).fieldPlan());
+	}
+
+	/**
+	 * Creates a plan that prints instances of the class with the instance
+	 * fields that pass the filter. Create the plan once and keep it.
+	 * 
+	 * @param type
+	 *            The class to print
+	 * @param filter
+	 *            The fields to print, {@code null} for all
+	 * @return The plan
+	 */
+	public static ToStringPlan toStringPlan(Class<?> type, Filter<Field> filter) {
+		return new ToStringPlan(fieldPlan(type, filter));
+	}
+
+	private static FieldPlan fieldPlan(Class<?> type, Filter<Field> filter) {
+		if (filter == null) {
+			return ClassMetadata.forClass(type).fieldPlan();
+		}
+		return new FieldPlan(type, filter);
+	}
+
+	private static final class WarmUpTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final List<Class<?>> classes;
+		private final int from;
+		private final int to;
+
+		// shared by every task split from the same root
+		private final AtomicInteger failed;
+		private final AtomicLong members;
+		private final AtomicLong scanNanos;
+
+		WarmUpTask(List<Class<?>> classes, int from, int to) {
+			this(classes, from, to, new AtomicInteger(), new AtomicLong(), new AtomicLong());
+		}
+
+		private WarmUpTask(List<Class<?>> classes, int from, int to, AtomicInteger failed, AtomicLong members,
+				AtomicLong scanNanos) {
+			this.classes = classes;
+			this.from = from;
+			this.to = to;
+			this.failed = failed;
+			this.members = members;
+			this.scanNanos = scanNanos;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > WARM_UP_BATCH) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new WarmUpTask(classes, from, middle, failed, members, scanNanos),
+						new WarmUpTask(classes, middle, to, failed, members, scanNanos));
+				return;
+			}
+
+			long start = System.nanoTime();
+			long resolved = 0;
+			for (int i = from; i < to; i++) {
+				try {
+					resolved += ClassMetadata.forClass(classes.get(i)).warmUp();
+				} catch (LinkageError e) {
+					failed.incrementAndGet();
+				} catch (RuntimeException e) {
+					// a null element, or a SecurityException from the scan;
+					// one bad class shouldn't fail the rest of the batch
+					failed.incrementAndGet();
+				}
+			}
+			members.addAndGet(resolved);
+			scanNanos.addAndGet(System.nanoTime() - start);
+		}
+	}
+}
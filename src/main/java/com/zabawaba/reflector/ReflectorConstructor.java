@@ -13,6 +13,7 @@ public class ReflectorConstructor {
 
 	private Object obj;
 	private Constructor<?> constructor;
+	private ConstructorAccess invoker;
 
 	public ReflectorConstructor(Object obj, Constructor<?> constructor) {
 		this.obj = obj;
@@ -24,14 +25,18 @@ public class ReflectorConstructor {
 	}
 
 	/**
-	 * Invoked the constructor with the given params
+	 * Invoked the constructor with the given params. The constructor is
+	 * invoked through the {@link AccessEngine} it is currently on, which is
+	 * shared by every ReflectorConstructor wrapping the same accessible
+	 * constructor.
 	 *
 	 * @param params
 	 *            The parameters to pass to the constructor
 	 * @return The object the constructor is suppose to create
 	 * @throws InstantiationException
 	 *             if the class that declares the underlying constructor
-	 *             represents an abstract class.
+	 *             represents an abstract class, or the constructor is not
+	 *             accessible.
 	 * @throws IllegalArgumentException
 	 *             if the count or type of parameters given don't match the
 	 *             target methods parameters
@@ -41,11 +46,23 @@ public class ReflectorConstructor {
 	 */
 	public Object newInstance(Object... params)
 			throws InstantiationException, IllegalArgumentException, InvocationTargetException {
+		Object event = Events.beginInvocation();
 		try {
-			return constructor.newInstance(params);
+			return invoker().newInstance(params);
 		} catch (IllegalAccessException e) {
-			e.printStackTrace();
+			InstantiationException ex = new InstantiationException(e.getMessage());
+			ex.initCause(e);
+			throw ex;
+		} finally {
+			Events.endInvocation(event, constructor);
 		}
-		return null;
+	}
+
+	private ConstructorAccess invoker() {
+		ConstructorAccess result = invoker;
+		if (result == null) {
+			invoker = result = Engines.forConstructor(constructor);
+		}
+		return result;
 	}
 }
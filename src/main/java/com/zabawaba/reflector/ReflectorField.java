@@ -3,7 +3,9 @@ package com.zabawaba.reflector;
 import java.lang.reflect.Field;
 
 /**
- * Wraps {@link Field} and provides some utility methods
+ * Wraps {@link Field} and provides some utility methods. The methods without
+ * a target work on the object the field was looked up with, the ones with a
+ * target work on any object that declares the field.
  * 
  * @author Steven Berlanga
  * @since 0.2.0
@@ -11,6 +13,7 @@ import java.lang.reflect.Field;
 public class ReflectorField {
 	private Object obj;
 	private Field field;
+	private FieldAccess accessor;
 
 	ReflectorField(Object obj, Field field) {
 		this.obj = obj;
@@ -33,14 +36,305 @@ public class ReflectorField {
 	 *         is null or there was an exception getting the field
 	 */
 	public Object getValue() {
+		return getValue(this.obj);
+	}
+
+	/**
+	 * Gets the field's value on the given object. Lets a field resolved once,
+	 * for example through {@link Fields#forClass(Class)}, be read on any
+	 * number of objects.
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The Object value of the field. Returns {@code null} if the field
+	 *         is null or there was an exception getting the field
+	 */
+	public Object getValue(Object target) {
 		try {
-			return field.get(this.obj);
+			return accessor().get(target);
 		} catch (IllegalArgumentException e) {
 		} catch (IllegalAccessException e) {
 		}
 		return null;
 	}
 
+	/**
+	 * Sets the field's value
+	 * 
+	 * @param value
+	 *            The new value of the field. Primitive fields accept their
+	 *            wrapper types and anything {@link Field#set(Object, Object)}
+	 *            can widen.
+	 * @throws IllegalArgumentException
+	 *             if the value can't be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setValue(Object value) throws IllegalArgumentException, IllegalAccessException {
+		setValue(this.obj, value);
+	}
+
+	/**
+	 * Sets the field's value on the given object
+	 * 
+	 * @param target
+	 *            The object to set the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the value can't
+	 *             be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setValue(Object target, Object value) throws IllegalArgumentException, IllegalAccessException {
+		accessor().set(target, value);
+	}
+
+	/**
+	 * Gets the field's value as an int without boxing it
+	 * 
+	 * @return The int value of the field
+	 * @throws IllegalArgumentException
+	 *             if the field's type can't be converted to int
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public int getInt() throws IllegalArgumentException, IllegalAccessException {
+		return getInt(this.obj);
+	}
+
+	/**
+	 * Gets the field's value on the given object as an int without boxing it
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The int value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field's type
+	 *             can't be converted to int
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public int getInt(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return accessor().getInt(target);
+	}
+
+	/**
+	 * Sets the field's value from an int without boxing it
+	 * 
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if int can't be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setInt(int value) throws IllegalArgumentException, IllegalAccessException {
+		setInt(this.obj, value);
+	}
+
+	/**
+	 * Sets the field's value on the given object from an int without boxing
+	 * it
+	 * 
+	 * @param target
+	 *            The object to set the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or int can't be
+	 *             converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setInt(Object target, int value) throws IllegalArgumentException, IllegalAccessException {
+		accessor().setInt(target, value);
+	}
+
+	/**
+	 * Gets the field's value as a long without boxing it
+	 * 
+	 * @return The long value of the field
+	 * @throws IllegalArgumentException
+	 *             if the field's type can't be converted to long
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public long getLong() throws IllegalArgumentException, IllegalAccessException {
+		return getLong(this.obj);
+	}
+
+	/**
+	 * Gets the field's value on the given object as a long without boxing it
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The long value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field's type
+	 *             can't be converted to long
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public long getLong(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return accessor().getLong(target);
+	}
+
+	/**
+	 * Sets the field's value from a long without boxing it
+	 * 
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if long can't be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setLong(long value) throws IllegalArgumentException, IllegalAccessException {
+		setLong(this.obj, value);
+	}
+
+	/**
+	 * Sets the field's value on the given object from a long without boxing
+	 * it
+	 * 
+	 * @param target
+	 *            The object to set the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or long can't be
+	 *             converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setLong(Object target, long value) throws IllegalArgumentException, IllegalAccessException {
+		accessor().setLong(target, value);
+	}
+
+	/**
+	 * Gets the field's value as a double without boxing it
+	 * 
+	 * @return The double value of the field
+	 * @throws IllegalArgumentException
+	 *             if the field's type can't be converted to double
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public double getDouble() throws IllegalArgumentException, IllegalAccessException {
+		return getDouble(this.obj);
+	}
+
+	/**
+	 * Gets the field's value on the given object as a double without boxing it
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The double value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field's type
+	 *             can't be converted to double
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public double getDouble(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return accessor().getDouble(target);
+	}
+
+	/**
+	 * Sets the field's value from a double without boxing it
+	 * 
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if double can't be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setDouble(double value) throws IllegalArgumentException, IllegalAccessException {
+		setDouble(this.obj, value);
+	}
+
+	/**
+	 * Sets the field's value on the given object from a double without boxing
+	 * it
+	 * 
+	 * @param target
+	 *            The object to set the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or double can't be
+	 *             converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setDouble(Object target, double value) throws IllegalArgumentException, IllegalAccessException {
+		accessor().setDouble(target, value);
+	}
+
+	/**
+	 * Gets the field's value as a boolean without boxing it
+	 * 
+	 * @return The boolean value of the field
+	 * @throws IllegalArgumentException
+	 *             if the field's type can't be converted to boolean
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public boolean getBoolean() throws IllegalArgumentException, IllegalAccessException {
+		return getBoolean(this.obj);
+	}
+
+	/**
+	 * Gets the field's value on the given object as a boolean without boxing it
+	 * 
+	 * @param target
+	 *            The object to read the field of, ignored for static fields
+	 * @return The boolean value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or the field's type
+	 *             can't be converted to boolean
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible
+	 */
+	public boolean getBoolean(Object target) throws IllegalArgumentException, IllegalAccessException {
+		return accessor().getBoolean(target);
+	}
+
+	/**
+	 * Sets the field's value from a boolean without boxing it
+	 * 
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if boolean can't be converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setBoolean(boolean value) throws IllegalArgumentException, IllegalAccessException {
+		setBoolean(this.obj, value);
+	}
+
+	/**
+	 * Sets the field's value on the given object from a boolean without boxing
+	 * it
+	 * 
+	 * @param target
+	 *            The object to set the field of, ignored for static fields
+	 * @param value
+	 *            The new value of the field
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the field or boolean can't be
+	 *             converted to the field's type
+	 * @throws IllegalAccessException
+	 *             if the field is not accessible or is final
+	 */
+	public void setBoolean(Object target, boolean value) throws IllegalArgumentException, IllegalAccessException {
+		accessor().setBoolean(target, value);
+	}
+
 	/**
 	 * Checks if the given object is equal to the value of the field
 	 * 
@@ -50,6 +344,31 @@ public class ReflectorField {
 	 *         false otherwise
 	 */
 	public boolean valueEquals(Object obj) {
+		Class<?> type = field.getType();
+		if (type.isPrimitive() && obj != null) {
+			// compare primitives without boxing the field's value
+			try {
+				if (type == int.class && obj instanceof Integer) {
+					return getInt() == ((Integer) obj).intValue();
+				}
+				if (type == long.class && obj instanceof Long) {
+					return getLong() == ((Long) obj).longValue();
+				}
+				if (type == double.class && obj instanceof Double) {
+					// same as Double.equals, NaN equals NaN and 0.0 doesn't
+					// equal -0.0
+					return Double.doubleToLongBits(getDouble()) == Double.doubleToLongBits((Double) obj);
+				}
+				if (type == boolean.class && obj instanceof Boolean) {
+					return getBoolean() == ((Boolean) obj).booleanValue();
+				}
+			} catch (IllegalArgumentException e) {
+				return false;
+			} catch (IllegalAccessException e) {
+				return false;
+			}
+		}
+
 		Object fieldValue = getValue();
 		if (obj != null) {
 			// if object is not null, check if equal
@@ -58,4 +377,12 @@ public class ReflectorField {
 		// else they both can be null
 		return obj == null && fieldValue == null;
 	}
+
+	private FieldAccess accessor() {
+		FieldAccess result = accessor;
+		if (result == null) {
+			accessor = result = Engines.forField(field);
+		}
+		return result;
+	}
 }
@@ -2,6 +2,10 @@ package com.zabawaba.reflector;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Wraps {@link Method} and provides some utility methods
@@ -12,6 +16,7 @@ import java.lang.reflect.Method;
 public class ReflectorMethod {
 	private Object obj;
 	private Method method;
+	private MethodAccess invoker;
 
 	ReflectorMethod(Object obj, Method method) {
 		this.obj = obj;
@@ -28,7 +33,9 @@ public class ReflectorMethod {
 	}
 
 	/**
-	 * Executes the underlying Method with the provided params
+	 * Executes the underlying Method with the provided params. The method is
+	 * invoked through the {@link AccessEngine} it is currently on, which is
+	 * shared by every ReflectorMethod wrapping the same accessible method.
 	 * 
 	 * @param params
 	 *            The parameters to execute the method with
@@ -40,10 +47,201 @@ public class ReflectorMethod {
 	 *             target methods parameters
 	 */
 	public Object call(Object... params) throws InvocationTargetException, IllegalArgumentException {
+		return invoke(obj, params);
+	}
+
+	/**
+	 * Executes the underlying Method on the given object. Lets a method
+	 * resolved once, for example through {@link Methods#forClass(Class)}, be
+	 * called on any number of objects.
+	 * 
+	 * @param target
+	 *            The object to call the method on, ignored for static methods
+	 * @param params
+	 *            The parameters to execute the method with
+	 * @return The object that the underlying method returns
+	 * @throws InvocationTargetException
+	 *             if the underlying method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if the target doesn't declare the method, or the count or
+	 *             type of parameters given don't match the target methods
+	 *             parameters
+	 */
+	public Object invoke(Object target, Object... params) throws InvocationTargetException, IllegalArgumentException {
+		Object event = Events.beginInvocation();
 		try {
-			return method.invoke(obj, params);
+			return invoker().invoke(target, params);
 		} catch (IllegalAccessException e) {
+		} finally {
+			Events.endInvocation(event, method);
 		}
 		return null;
 	}
+
+	/**
+	 * Executes the underlying Method on every given object with the same
+	 * parameters, stopping at the first exception. The parameters are checked
+	 * once for the whole batch.
+	 * 
+	 * @param targets
+	 *            The objects to call the method on
+	 * @param params
+	 *            The parameters to execute the method with
+	 * @return What the underlying method returned for each target, in the
+	 *         same order as the targets
+	 * @throws InvocationTargetException
+	 *             if the underlying method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if a target doesn't declare the method, or the count or
+	 *             type of parameters given don't match the target methods
+	 *             parameters
+	 */
+	public Object[] invokeAll(Object[] targets, Object... params)
+			throws InvocationTargetException, IllegalArgumentException {
+		Object[] results = new Object[targets.length];
+		try {
+			invoker().invokeAll(targets, 0, targets.length, params, results);
+		} catch (IllegalAccessException e) {
+		}
+		return results;
+	}
+
+	/**
+	 * Executes the underlying Method on every given object with the same
+	 * parameters, see {@link #invokeAll(Object[], Object...)}
+	 * 
+	 * @param targets
+	 *            The objects to call the method on
+	 * @param params
+	 *            The parameters to execute the method with
+	 * @return What the underlying method returned for each target, in the
+	 *         iteration order of the targets
+	 * @throws InvocationTargetException
+	 *             if the underlying method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if a target doesn't declare the method, or the count or
+	 *             type of parameters given don't match the target methods
+	 *             parameters
+	 */
+	public Object[] invokeAll(Collection<?> targets, Object... params)
+			throws InvocationTargetException, IllegalArgumentException {
+		return invokeAll(targets.toArray(), params);
+	}
+
+	/**
+	 * Executes the underlying Method on every given object with the same
+	 * parameters, splitting the targets across the threads of the given pool.
+	 * Targets are invoked in no particular order. Once the method has thrown
+	 * an exception for one target, targets that haven't been invoked yet are
+	 * skipped.
+	 * 
+	 * @param pool
+	 *            The pool to run on
+	 * @param targets
+	 *            The objects to call the method on
+	 * @param params
+	 *            The parameters to execute the method with, shared by every
+	 *            thread
+	 * @return What the underlying method returned for each target, in the
+	 *         same order as the targets
+	 * @throws InvocationTargetException
+	 *             if the underlying method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if a target doesn't declare the method, or the count or
+	 *             type of parameters given don't match the target methods
+	 *             parameters
+	 */
+	public Object[] invokeAll(ForkJoinPool pool, Object[] targets, Object... params)
+			throws InvocationTargetException, IllegalArgumentException {
+		Object[] results = new Object[targets.length];
+		AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		pool.invoke(new BatchTask(invoker(), targets, 0, targets.length, params, results, failure));
+
+		Throwable t = failure.get();
+		if (t instanceof InvocationTargetException) {
+			throw (InvocationTargetException) t;
+		}
+		if (t != null && !(t instanceof IllegalAccessException)) {
+			throw Handles.unchecked(t);
+		}
+		return results;
+	}
+
+	/**
+	 * Executes the underlying Method on every given object with the same
+	 * parameters, see {@link #invokeAll(ForkJoinPool, Object[], Object...)}
+	 * 
+	 * @param pool
+	 *            The pool to run on
+	 * @param targets
+	 *            The objects to call the method on
+	 * @param params
+	 *            The parameters to execute the method with, shared by every
+	 *            thread
+	 * @return What the underlying method returned for each target, in the
+	 *         iteration order of the targets
+	 * @throws InvocationTargetException
+	 *             if the underlying method throws an exception
+	 * @throws IllegalArgumentException
+	 *             if a target doesn't declare the method, or the count or
+	 *             type of parameters given don't match the target methods
+	 *             parameters
+	 */
+	public Object[] invokeAll(ForkJoinPool pool, Collection<?> targets, Object... params)
+			throws InvocationTargetException, IllegalArgumentException {
+		return invokeAll(pool, targets.toArray(), params);
+	}
+
+	private MethodAccess invoker() {
+		MethodAccess result = invoker;
+		if (result == null) {
+			invoker = result = Engines.forMethod(method);
+		}
+		return result;
+	}
+
+	private static final class BatchTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		// targets invoked by a single task before it stops splitting
+		private static final int BATCH = 1024;
+
+		private final MethodAccess invoker;
+		private final Object[] targets;
+		private final int from;
+		private final int to;
+		private final Object[] params;
+		private final Object[] results;
+		// the first exception thrown by any task split from the same root
+		private final AtomicReference<Throwable> failure;
+
+		BatchTask(MethodAccess invoker, Object[] targets, int from, int to, Object[] params, Object[] results,
+				AtomicReference<Throwable> failure) {
+			this.invoker = invoker;
+			this.targets = targets;
+			this.from = from;
+			this.to = to;
+			this.params = params;
+			this.results = results;
+			this.failure = failure;
+		}
+
+		@Override
+		protected void compute() {
+			if (failure.get() != null) {
+				return;
+			}
+			if (to - from > BATCH) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BatchTask(invoker, targets, from, middle, params, results, failure),
+						new BatchTask(invoker, targets, middle, to, params, results, failure));
+				return;
+			}
+			try {
+				invoker.invokeAll(targets, from, to, params, results);
+			} catch (Throwable t) {
+				failure.compareAndSet(null, t);
+			}
+		}
+	}
 }
@@ -0,0 +1,163 @@
+package com.zabawaba.reflector;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Reports how often the fields, methods and constructors accessed through
+ * {@link ReflectorField}, {@link ReflectorMethod} and
+ * {@link ReflectorConstructor} are called, how long the calls take and how
+ * many of them throw, as well as the hit rates of the lookup caches behind
+ * {@link Fields}, {@link Methods} and {@link Constructors}.
+ * <p>
+ * Metrics are only recorded when the JVM is started with
+ * {@code -Dreflector.metrics=true}. Otherwise nothing is wrapped or counted
+ * and every method of this class reports empty results. The metrics of a
+ * member are kept with its class and go away when the class is unloaded.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class ReflectorMetrics {
+
+	/**
+	 * The name {@link #registerMBean()} registers the metrics under
+	 */
+	public static final String OBJECT_NAME = "com.zabawaba.reflector:type=Metrics";
+
+	private static final int HOT_MEMBERS = 10;
+
+	private ReflectorMetrics() {
+	}
+
+	/**
+	 * @return true if metrics are recorded
+	 */
+	public static boolean isEnabled() {
+		return MetricsRegistry.ENABLED;
+	}
+
+	/**
+	 * @return A snapshot of every member that has been called since the last
+	 *         {@link #reset()}, most called first
+	 */
+	public static List<MemberStats> memberStats() {
+		List<MemberStats> stats = new ArrayList<MemberStats>();
+		for (MetricsRegistry.Counter counter : MetricsRegistry.counters()) {
+			MemberStats member = new MemberStats(counter);
+			// members not called since the last reset are left out
+			if (member.getCalls() > 0) {
+				stats.add(member);
+			}
+		}
+		Collections.sort(stats, new Comparator<MemberStats>() {
+			@Override
+			public int compare(MemberStats a, MemberStats b) {
+				return a.getCalls() > b.getCalls() ? -1 : a.getCalls() < b.getCalls() ? 1 : 0;
+			}
+		});
+		return stats;
+	}
+
+	/**
+	 * @return A snapshot of each lookup cache
+	 */
+	public static List<CacheStats> cacheStats() {
+		List<CacheStats> stats = new ArrayList<CacheStats>();
+		for (int i = 0; i < MetricsRegistry.CACHE_NAMES.length; i++) {
+			stats.add(new CacheStats(MetricsRegistry.CACHE_NAMES[i], MetricsRegistry.cacheHits(i),
+					MetricsRegistry.cacheMisses(i)));
+		}
+		return stats;
+	}
+
+	/**
+	 * Sets every count recorded so far back to zero
+	 */
+	public static void reset() {
+		MetricsRegistry.reset();
+	}
+
+	/**
+	 * Registers a {@link ReflectorMetricsMBean} under {@link #OBJECT_NAME}
+	 * with the platform MBean server, unless one is registered already.
+	 * 
+	 * @return The name the metrics are registered under
+	 * @throws JMException
+	 *             if the MBean can't be registered
+	 */
+	public static ObjectName registerMBean() throws JMException {
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		synchronized (ReflectorMetrics.class) {
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new StandardMBean(new View(), ReflectorMetricsMBean.class), name);
+			}
+		}
+		return name;
+	}
+
+	private static final class View implements ReflectorMetricsMBean {
+
+		@Override
+		public boolean isEnabled() {
+			return ReflectorMetrics.isEnabled();
+		}
+
+		@Override
+		public int getMemberCount() {
+			return memberStats().size();
+		}
+
+		@Override
+		public long getTotalCalls() {
+			long calls = 0;
+			for (MetricsRegistry.Counter counter : MetricsRegistry.counters()) {
+				calls += counter.calls.get();
+			}
+			return calls;
+		}
+
+		@Override
+		public long getTotalErrors() {
+			long errors = 0;
+			for (MetricsRegistry.Counter counter : MetricsRegistry.counters()) {
+				errors += counter.errors.get();
+			}
+			return errors;
+		}
+
+		@Override
+		public String[] getHotMembers() {
+			List<MemberStats> stats = memberStats();
+			String[] hot = new String[Math.min(HOT_MEMBERS, stats.size())];
+			for (int i = 0; i < hot.length; i++) {
+				hot[i] = stats.get(i).toString();
+			}
+			return hot;
+		}
+
+		@Override
+		public String[] getCaches() {
+			List<CacheStats> stats = cacheStats();
+			String[] caches = new String[stats.size()];
+			for (int i = 0; i < caches.length; i++) {
+				caches[i] = stats.get(i).toString();
+			}
+			return caches;
+		}
+
+		@Override
+		public void reset() {
+			ReflectorMetrics.reset();
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.zabawaba.reflector;
+
+/**
+ * The JMX view of {@link ReflectorMetrics}, see
+ * {@link ReflectorMetrics#registerMBean()}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public interface ReflectorMetricsMBean {
+
+	/**
+	 * @return true if metrics are recorded
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @return The number of members that have been called
+	 */
+	int getMemberCount();
+
+	/**
+	 * @return The number of calls made to all members
+	 */
+	long getTotalCalls();
+
+	/**
+	 * @return The number of calls that threw an exception
+	 */
+	long getTotalErrors();
+
+	/**
+	 * @return The members with the most calls, most called first
+	 */
+	String[] getHotMembers();
+
+	/**
+	 * @return The hits and misses of each cache
+	 */
+	String[] getCaches();
+
+	/**
+	 * Sets every count recorded so far back to zero
+	 */
+	void reset();
+}
@@ -0,0 +1,162 @@
+package com.zabawaba.reflector;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches argument types against parameter lists the way the compiler picks
+ * an overload: parameter lists that apply through subtyping and primitive
+ * widening alone are preferred over those that need boxing or unboxing, and
+ * the most specific applicable parameter list wins. Variable arity
+ * parameter lists are matched like any other.
+ *
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+final class Signatures {
+
+	private static final Map<Class<?>, Set<Class<?>>> WIDENINGS = new HashMap<Class<?>, Set<Class<?>>>();
+
+	static {
+		widens(byte.class, short.class, int.class, long.class, float.class, double.class);
+		widens(short.class, int.class, long.class, float.class, double.class);
+		widens(char.class, int.class, long.class, float.class, double.class);
+		widens(int.class, long.class, float.class, double.class);
+		widens(long.class, float.class, double.class);
+		widens(float.class, double.class);
+	}
+
+	private Signatures() {
+	}
+
+	private static void widens(Class<?> from, Class<?>... to) {
+		Set<Class<?>> targets = new HashSet<Class<?>>();
+		for (Class<?> t : to) {
+			targets.add(t);
+		}
+		WIDENINGS.put(from, targets);
+	}
+
+	/**
+	 * @param parameterType
+	 *            The declared parameter type
+	 * @param argumentType
+	 *            The type of the argument, {@code null} for a {@code null}
+	 *            argument
+	 * @return true if an argument of the given type can be passed as the
+	 *         parameter
+	 */
+	static boolean isAssignable(Class<?> parameterType, Class<?> argumentType) {
+		return isAssignable(parameterType, argumentType, true);
+	}
+
+	/**
+	 * @param boxing
+	 *            true to allow boxing and unboxing conversions
+	 */
+	private static boolean isAssignable(Class<?> parameterType, Class<?> argumentType, boolean boxing) {
+		if (argumentType == null) {
+			return !parameterType.isPrimitive();
+		}
+		if (parameterType.isAssignableFrom(argumentType)) {
+			return true;
+		}
+		if (!boxing) {
+			Set<Class<?>> widenings = WIDENINGS.get(argumentType);
+			return widenings != null && widenings.contains(parameterType);
+		}
+		if (parameterType.isPrimitive()) {
+			Class<?> primitive = Handles.unwrap(argumentType);
+			Set<Class<?>> widenings = WIDENINGS.get(primitive);
+			return primitive == parameterType || widenings != null && widenings.contains(parameterType);
+		}
+		// boxing followed by a widening reference conversion
+		return parameterType.isAssignableFrom(Handles.wrap(argumentType));
+	}
+
+	/**
+	 * @param parameterTypes
+	 *            The declared parameter types
+	 * @param argumentTypes
+	 *            The types of the arguments, {@code null} for {@code null}
+	 *            arguments
+	 * @return true if arguments of the given types can be passed as the
+	 *         parameters
+	 */
+	static boolean isAssignable(Class<?>[] parameterTypes, Class<?>[] argumentTypes) {
+		return isAssignable(parameterTypes, argumentTypes, true);
+	}
+
+	private static boolean isAssignable(Class<?>[] parameterTypes, Class<?>[] argumentTypes, boolean boxing) {
+		if (parameterTypes.length != argumentTypes.length) {
+			return false;
+		}
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (!isAssignable(parameterTypes[i], argumentTypes[i], boxing)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param args
+	 *            Arguments, {@code null} for none
+	 * @return The classes of the arguments, {@code null} for {@code null}
+	 *         arguments
+	 */
+	static Class<?>[] typesOf(Object[] args) {
+		if (args == null) {
+			return new Class<?>[0];
+		}
+		Class<?>[] types = new Class<?>[args.length];
+		for (int i = 0; i < args.length; i++) {
+			types[i] = args[i] == null ? null : args[i].getClass();
+		}
+		return types;
+	}
+
+	/**
+	 * Picks the most specific parameter list that accepts the argument types.
+	 * Like the first two phases of JLS 15.12.2, boxing and unboxing are only
+	 * considered when no parameter list applies without them.
+	 *
+	 * @param candidates
+	 *            The parameter lists to choose from
+	 * @param argumentTypes
+	 *            The types of the arguments, {@code null} for {@code null}
+	 *            arguments
+	 * @return The index of the first parameter list that applies and is at
+	 *         least as specific as every other applicable one, or -1 if there
+	 *         is none
+	 */
+	static int mostSpecific(Class<?>[][] candidates, Class<?>[] argumentTypes) {
+		int index = mostSpecific(candidates, argumentTypes, false);
+		return index != -1 ? index : mostSpecific(candidates, argumentTypes, true);
+	}
+
+	private static int mostSpecific(Class<?>[][] candidates, Class<?>[] argumentTypes, boolean boxing) {
+		boolean[] applicable = new boolean[candidates.length];
+		for (int i = 0; i < candidates.length; i++) {
+			applicable[i] = isAssignable(candidates[i], argumentTypes, boxing);
+		}
+		for (int i = 0; i < candidates.length; i++) {
+			if (applicable[i] && isMostSpecific(i, candidates, applicable)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isMostSpecific(int index, Class<?>[][] candidates, boolean[] applicable) {
+		for (int i = 0; i < candidates.length; i++) {
+			// every other applicable list has to accept this one's types
+			if (applicable[i] && !isAssignable(candidates[i], candidates[index])) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
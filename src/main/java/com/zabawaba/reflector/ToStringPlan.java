@@ -0,0 +1,39 @@
+package com.zabawaba.reflector;
+
+/**
+ * Prints instances of a class field by field, see
+ * {@link Reflector#toStringPlan(Class, Filter)}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class ToStringPlan {
+
+	private final FieldPlan plan;
+
+	ToStringPlan(FieldPlan plan) {
+		this.plan = plan;
+	}
+
+	/**
+	 * @return The class this plan prints
+	 */
+	public Class<?> getType() {
+		return plan.getType();
+	}
+
+	/**
+	 * Prints an object field by field, for example
+	 * {@code Point[x=1, y=2]}
+	 * 
+	 * @param obj
+	 *            An instance of the plan's class
+	 * @return The simple name of the object's class followed by the name and
+	 *         value of every printed field, "null" for {@code null}
+	 * @throws IllegalArgumentException
+	 *             if the object is not an instance of the plan's class
+	 */
+	public String toString(Object obj) {
+		return plan.describe(obj);
+	}
+}
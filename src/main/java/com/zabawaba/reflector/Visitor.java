@@ -0,0 +1,19 @@
+package com.zabawaba.reflector;
+
+/**
+ * Receives objects one at a time, for example the members visited by
+ * {@link Fields#forEach(Filter, Visitor)}, and decides whether to keep going.
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public interface Visitor<T> {
+	/**
+	 * Visits the given object
+	 * 
+	 * @param object
+	 *            The object being visited
+	 * @return true to keep visiting, false to stop
+	 */
+	public boolean visit(T object);
+}
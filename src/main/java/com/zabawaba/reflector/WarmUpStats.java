@@ -0,0 +1,70 @@
+package com.zabawaba.reflector;
+
+/**
+ * Describes a call to {@link Reflector#warmUp(java.util.Collection)}
+ * 
+ * @author Steven Berlanga
+ * @since 0.2.1
+ */
+public final class WarmUpStats {
+
+	private final int classCount;
+	private final int failedCount;
+	private final long memberCount;
+	private final long elapsedNanos;
+	private final long scanNanos;
+
+	WarmUpStats(int classCount, int failedCount, long memberCount, long elapsedNanos, long scanNanos) {
+		this.classCount = classCount;
+		this.failedCount = failedCount;
+		this.memberCount = memberCount;
+		this.elapsedNanos = elapsedNanos;
+		this.scanNanos = scanNanos;
+	}
+
+	/**
+	 * @return The number of classes that were warmed up, including the ones
+	 *         that failed
+	 */
+	public int getClassCount() {
+		return classCount;
+	}
+
+	/**
+	 * @return The number of classes whose members couldn't be resolved, for
+	 *         example because a class they reference is missing or a security
+	 *         manager denied access, including {@code null} elements
+	 */
+	public int getFailedCount() {
+		return failedCount;
+	}
+
+	/**
+	 * @return The number of fields, methods and constructors that were
+	 *         resolved, including those of superclasses
+	 */
+	public long getMemberCount() {
+		return memberCount;
+	}
+
+	/**
+	 * @return The wall clock time the warm up took, in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @return The time spent resolving members summed over all threads, in
+	 *         nanoseconds
+	 */
+	public long getScanNanos() {
+		return scanNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpStats[classes=" + classCount + ", failed=" + failedCount + ", members=" + memberCount
+				+ ", elapsedNanos=" + elapsedNanos + ", scanNanos=" + scanNanos + "]";
+	}
+}
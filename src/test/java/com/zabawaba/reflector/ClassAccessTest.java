@@ -0,0 +1,120 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.example.Bar;
+import org.junit.Test;
+
+import com.zabawaba.reflector.Engines.PromotingFieldAccess;
+import com.zabawaba.reflector.classes.Primitives;
+import com.zabawaba.reflector.classes.SampleFour;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
+import com.zabawaba.reflector.classes.SampleTwo;
+
+public class ClassAccessTest {
+
+	@Test
+	public void testForClass_IsShared() {
+		assertSame(ClassAccess.forClass(SampleOne.class), ClassAccess.forClass(SampleOne.class));
+		assertEquals(SampleOne.class, ClassAccess.forClass(SampleOne.class).getType());
+	}
+
+	@Test
+	public void testFields() throws Exception {
+		ClassAccess access = ClassAccess.forClass(SampleTwo.class);
+		int index = access.fieldIndex("field1");
+		assertEquals(SampleTwo.class, access.getFields().get(index).getDeclaringClass());
+
+		SampleTwo sample = new SampleTwo();
+		access.setInt(sample, index, 3);
+		assertEquals(3, sample.field1);
+		assertEquals(3, access.getInt(sample, index));
+		assertEquals(3, access.get(sample, index));
+		access.set(sample, index, 4);
+		assertEquals(4L, access.getLong(sample, index));
+	}
+
+	@Test
+	public void testFields_Primitives() throws Exception {
+		ClassAccess access = ClassAccess.forClass(Primitives.class);
+		Primitives sample = new Primitives();
+		access.setLong(sample, access.fieldIndex("longField"), 5L);
+		access.setDouble(sample, access.fieldIndex("doubleField"), 1.5);
+		access.setBoolean(sample, access.fieldIndex("booleanField"), true);
+		assertEquals(5L, sample.longField);
+		assertEquals(1.5, access.getDouble(sample, access.fieldIndex("doubleField")), 0);
+		assertTrue(access.getBoolean(sample, access.fieldIndex("booleanField")));
+	}
+
+	@Test
+	public void testFields_SharedWithWrappers() throws Exception {
+		assumeFalse(ReflectorMetrics.isEnabled());
+		ClassAccess access = ClassAccess.forClass(Primitives.class);
+		int index = access.fieldIndex("shortField");
+		Primitives sample = new Primitives();
+		for (int i = 0; i < Engines.DEFAULT_THRESHOLD; i++) {
+			access.getInt(sample, index);
+		}
+		// the calls count towards the promotion of the wrappers' access
+		FieldAccess shared = Engines.forField(access.getFields().get(index));
+		assertTrue(((PromotingFieldAccess) shared).isPromoted());
+	}
+
+	@Test(expected = NoSuchFieldException.class)
+	public void testFieldIndex_Missing() throws NoSuchFieldException {
+		ClassAccess.forClass(SampleOne.class).fieldIndex("i_don't_exist");
+	}
+
+	@Test
+	public void testMethods() throws Exception {
+		ClassAccess access = ClassAccess.forClass(SampleFour.class);
+		SampleFour sample = new SampleFour();
+		assertEquals("two", access.invoke(sample, access.methodIndex("method1")));
+		assertEquals(3, access.invoke(sample, access.methodIndex("override", int.class), 1));
+		assertEquals(4, access.invoke(sample, access.methodIndex("override", long.class), 1L));
+		assertEquals(1, access.invoke(sample, access.methodIndex("override", String.class), "a"));
+	}
+
+	@Test
+	public void testMethodIndex_Bridged() throws Exception {
+		ClassAccess access = ClassAccess.forClass(Bar.class);
+		Bar bar = new Bar();
+		assertEquals(0, access.invoke(bar, access.methodIndex("compareTo"), bar));
+		assertEquals("bar", access.invoke(bar, access.methodIndex("get")));
+		assertEquals(access.methodIndex("compareTo"), access.methodIndex("compareTo", Bar.class));
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void testMethods_InvocationTarget() throws Exception {
+		ClassAccess access = ClassAccess.forClass(SampleOne.class);
+		access.invoke(new SampleOne(), access.methodIndex("blowup"));
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void testMethodIndex_Missing() throws NoSuchMethodException {
+		ClassAccess.forClass(SampleOne.class).methodIndex("override", Object.class);
+	}
+
+	@Test
+	public void testConstructors() throws Exception {
+		ClassAccess access = ClassAccess.forClass(SampleThree.class);
+		SampleThree sample = (SampleThree) access.newInstance(access.constructorIndex(String.class, int.class), "a", 2);
+		assertEquals("a", sample.getName());
+		assertEquals(2, sample.getCount());
+		sample = (SampleThree) access.newInstance(access.constructorIndex());
+		assertEquals("default", sample.getName());
+		sample = (SampleThree) access.newInstance(access.constructorIndex(Integer.class), 5);
+		assertEquals(5, sample.getCount());
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void testConstructorIndex_Missing() throws NoSuchMethodException {
+		ClassAccess.forClass(SampleThree.class).constructorIndex(String.class);
+	}
+}
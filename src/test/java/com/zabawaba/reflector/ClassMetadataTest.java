@@ -0,0 +1,216 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Empty;
+import com.zabawaba.reflector.classes.IndexedNamed;
+import com.zabawaba.reflector.classes.SampleFour;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
+import com.zabawaba.reflector.classes.SampleTwo;
+
+public class ClassMetadataTest {
+
+	@Test
+	public void testForClass_IsShared() {
+		assertSame(ClassMetadata.forClass(SampleOne.class), ClassMetadata.forClass(SampleOne.class));
+	}
+
+	@Test
+	public void testForClass_MembersAreBuiltOnce() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleOne.class);
+		assertSame(metadata.fields(), metadata.fields());
+		assertSame(metadata.methods(), metadata.methods());
+		assertSame(metadata.constructors(), metadata.constructors());
+	}
+
+	@Test
+	public void testGetType() {
+		assertEquals(SampleOne.class, ClassMetadata.forClass(SampleOne.class).getType());
+	}
+
+	@Test
+	public void testFields() {
+		Field[] fields = ClassMetadata.forClass(SampleOne.class).fields();
+		assertEquals(3, fields.length);
+		for (Field f : fields) {
+			assertTrue(f.isAccessible());
+		}
+	}
+
+	@Test
+	public void testFields_NoFieldsOnClass() {
+		assertEquals(0, ClassMetadata.forClass(Empty.class).fields().length);
+	}
+
+	@Test
+	public void testMethods_IncludesSuperclasses() {
+		Method[] methods = ClassMetadata.forClass(Empty.class).methods();
+		assertEquals(Object.class.getDeclaredMethods().length, methods.length);
+	}
+
+	@Test
+	public void testMethods_SubclassFirst() {
+		Method[] methods = ClassMetadata.forClass(SampleOne.class).methods();
+		assertEquals(SampleOne.class, methods[0].getDeclaringClass());
+		assertEquals(Object.class, methods[methods.length - 1].getDeclaringClass());
+	}
+
+	@Test
+	public void testConstructors() {
+		Constructor<?>[] constructors = ClassMetadata.forClass(SampleOne.class).constructors();
+		assertEquals(1, constructors.length);
+		assertTrue(constructors[0].isAccessible());
+	}
+
+	@Test
+	public void testField() {
+		Field field = ClassMetadata.forClass(SampleTwo.class).field("field1");
+		assertEquals(SampleTwo.class, field.getDeclaringClass());
+		assertEquals(int.class, field.getType());
+	}
+
+	@Test
+	public void testField_Missing() {
+		assertNull(ClassMetadata.forClass(SampleOne.class).field("i_don't_exist"));
+	}
+
+	@Test
+	public void testMethod_FewestParametersFirst() {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("override");
+		assertEquals(String.class, method.getParameterTypes()[0]);
+		assertEquals(1, method.getParameterTypes().length);
+	}
+
+	@Test
+	public void testMethod_SubclassFirst() {
+		Method method = ClassMetadata.forClass(SampleTwo.class).method("override");
+		assertEquals(int.class, method.getParameterTypes()[0]);
+	}
+
+	@Test
+	public void testMethod_Missing() {
+		assertNull(ClassMetadata.forClass(SampleOne.class).method("i_don't_exist"));
+	}
+
+	@Test
+	public void testField_Indexed() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleFour.class);
+		assertNotNull(metadata.memberIndex());
+		Field field = metadata.field("field1");
+		assertEquals(SampleTwo.class, field.getDeclaringClass());
+		assertTrue(field.isAccessible());
+		assertSame(field, metadata.field("field1"));
+		assertEquals(SampleFour.class, metadata.field("four").getDeclaringClass());
+		assertNull(metadata.field("i_don't_exist"));
+	}
+
+	@Test
+	public void testMethod_Indexed() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleFour.class);
+		Method method = metadata.method("override");
+		assertEquals(SampleFour.class, method.getDeclaringClass());
+		assertEquals(long.class, method.getParameterTypes()[0]);
+		assertEquals(SampleTwo.class, metadata.method("method1").getDeclaringClass());
+		assertNull(metadata.method("i_don't_exist"));
+	}
+
+	@Test
+	public void testMethod_IndexedBridges() {
+		// getName is inherited but implements Named<String>, so the compiler
+		// adds a bridge to IndexedNamed, compareTo is a generic override
+		ClassMetadata metadata = ClassMetadata.forClass(IndexedNamed.class);
+		assertNotNull(metadata.memberIndex());
+		Method getName = metadata.method("getName");
+		Method compareTo = metadata.method("compareTo");
+		assertFalse(compareTo.isBridge());
+
+		// a miss builds the index of every name from the full scan
+		assertNull(metadata.method("i_don't_exist"));
+		assertEquals(metadata.method("getName"), getName);
+		assertEquals(metadata.method("compareTo"), compareTo);
+	}
+
+	@Test
+	public void testDefaultConstructor() {
+		assertEquals(0, ClassMetadata.forClass(SampleThree.class).defaultConstructor().getParameterTypes().length);
+		assertNull(ClassMetadata.forClass(Integer.class).defaultConstructor());
+	}
+
+	@Test
+	public void testConstructor_Resolved() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleThree.class);
+		Constructor<?> constructor = metadata.constructor(new Class<?>[] { Integer.class });
+		assertEquals(Number.class, constructor.getParameterTypes()[0]);
+		assertSame(constructor, metadata.constructor(new Class<?>[] { Integer.class }));
+	}
+
+	@Test
+	public void testCanReference() {
+		assertTrue(ClassMetadata.canReference(SampleThree.class, Integer.class));
+		assertTrue(ClassMetadata.canReference(SampleThree.class, SampleOne.class));
+		assertFalse(ClassMetadata.canReference(Integer.class, SampleThree.class));
+	}
+
+	@Test
+	public void testSelect_MemoizedNotReferenceable() {
+		// ArrayList's loader can't see the filter, caching it there would
+		// keep the filter's loader alive
+		ClassMetadata metadata = ClassMetadata.forClass(ArrayList.class);
+		Filter<Field> filter = Filters.memoized(Filters.and(Fields.thatArePrivate(), Fields.thatStartWith("e")));
+		assertNotSame(metadata.select(metadata.fields(), filter), metadata.select(metadata.fields(), filter));
+	}
+
+	@Test
+	public void testConstructor_Missing() {
+		assertNull(ClassMetadata.forClass(SampleThree.class).constructor(new Class<?>[] { String.class }));
+	}
+
+	@Test
+	public void testSelect() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleOne.class);
+		assertSame(metadata.fields(), metadata.select(metadata.fields(), null));
+		assertEquals(1, metadata.select(metadata.fields(), Fields.thatArePublic()).length);
+	}
+
+	@Test
+	public void testSelect_Memoized() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleOne.class);
+		Field[] first = metadata.select(metadata.fields(), Filters.memoized(Fields.thatArePrivate()));
+		Field[] second = metadata.select(metadata.fields(), Filters.memoized(Fields.thatArePrivate()));
+		assertEquals(1, first.length);
+		assertSame(first, second);
+	}
+
+	@Test
+	public void testSelect_MemoizedPerMemberType() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleOne.class);
+		Field[] fields = metadata.select(metadata.fields(), Filters.memoized(Fields.thatArePublic()));
+		Method[] methods = metadata.select(metadata.methods(), Filters.memoized(Methods.thatArePublic()));
+		assertEquals(1, fields.length);
+		assertEquals(14, methods.length);
+	}
+
+	@Test
+	public void testSelect_MemoizedEviction() {
+		ClassMetadata metadata = ClassMetadata.forClass(SampleTwo.class);
+		Field[] first = metadata.select(metadata.fields(), Filters.memoized(Fields.thatStartWith("field")));
+		for (int i = 0; i < ClassMetadata.MEMOIZED_FILTERS; i++) {
+			metadata.select(metadata.fields(), Filters.memoized(Fields.thatEndWith(String.valueOf(i))));
+		}
+		assertNotSame(first, metadata.select(metadata.fields(), Filters.memoized(Fields.thatStartWith("field"))));
+	}
+}
@@ -0,0 +1,79 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Color;
+import com.zabawaba.reflector.classes.SampleThree;
+import com.zabawaba.reflector.classes.Shape;
+
+public class ConstructorInvokerTest {
+
+	@Test
+	public void testForConstructor_Shared() throws NoSuchMethodException {
+		Constructor<?> constructor = ClassMetadata.forClass(SampleThree.class).constructors()[0];
+		assertSame(ConstructorInvoker.forConstructor(constructor), ConstructorInvoker.forConstructor(constructor));
+		assertTrue(ConstructorInvoker.forConstructor(constructor).hasHandle());
+	}
+
+	@Test
+	public void testForConstructor_NotAccessible() throws NoSuchMethodException {
+		Constructor<?> constructor = SampleThree.class.getDeclaredConstructor(Number.class);
+		ConstructorInvoker invoker = ConstructorInvoker.forConstructor(constructor);
+		assertFalse(invoker.hasHandle());
+		assertEquals(constructor, invoker.getConstructor());
+	}
+
+	@Test
+	public void testNewInstance_Default() throws Exception {
+		ConstructorInvoker invoker = new ConstructorInvoker(SampleThree.class.getConstructor());
+		SampleThree sample = (SampleThree) invoker.newInstance(new Object[0]);
+		assertEquals("default", sample.getName());
+	}
+
+	@Test
+	public void testNewInstance_Parameters() throws Exception {
+		ConstructorInvoker invoker = new ConstructorInvoker(SampleThree.class.getConstructor(String.class, int.class));
+		SampleThree sample = (SampleThree) invoker.newInstance(new Object[] { "foo", 2 });
+		assertEquals("foo", sample.getName());
+		assertEquals(2, sample.getCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNewInstance_WrongParameters() throws Exception {
+		new ConstructorInvoker(SampleThree.class.getConstructor(String.class, int.class)).newInstance(new Object[] { "foo" });
+	}
+
+	@Test
+	public void testNewInstance_InvocationTarget() throws Exception {
+		ConstructorInvoker invoker = new ConstructorInvoker(SampleThree.class.getConstructor(String.class, int.class));
+		try {
+			invoker.newInstance(new Object[] { "foo", -1 });
+			fail("should have failed");
+		} catch (InvocationTargetException e) {
+			assertEquals("count", e.getCause().getMessage());
+		}
+	}
+
+	@Test(expected = InstantiationException.class)
+	public void testNewInstance_Abstract() throws Exception {
+		Constructor<?> constructor = Shape.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		new ConstructorInvoker(constructor).newInstance(new Object[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNewInstance_Enum() throws Exception {
+		Constructor<?> constructor = Color.class.getDeclaredConstructors()[0];
+		constructor.setAccessible(true);
+		new ConstructorInvoker(constructor).newInstance(new Object[] { "FOO", 99 });
+	}
+}
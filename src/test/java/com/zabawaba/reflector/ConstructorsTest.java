@@ -1,8 +1,10 @@
 package com.zabawaba.reflector;
 
 import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
 import org.junit.Test;
 
+import java.lang.reflect.Constructor;
 import java.util.HashSet;
 
 import static org.junit.Assert.*;
@@ -23,6 +25,35 @@ public class ConstructorsTest {
 		fail("should have through exception");
 	}
 
+	@Test
+	public void testGet_ExactParameters() throws NoSuchMethodException {
+		ReflectorConstructor constructor = Constructors.forObj(new SampleThree()).get(String.class, int.class);
+		assertArrayEquals(new Class<?>[] { String.class, int.class }, constructor.getConstructor().getParameterTypes());
+	}
+
+	@Test
+	public void testGet_BoxedParameters() throws NoSuchMethodException {
+		ReflectorConstructor constructor = Constructors.forObj(new SampleThree()).get(String.class, Integer.class);
+		assertArrayEquals(new Class<?>[] { String.class, int.class }, constructor.getConstructor().getParameterTypes());
+	}
+
+	@Test
+	public void testGet_AssignableParameters() throws NoSuchMethodException {
+		ReflectorConstructor constructor = Constructors.forObj(new SampleThree()).get(Long.class);
+		assertArrayEquals(new Class<?>[] { Number.class }, constructor.getConstructor().getParameterTypes());
+	}
+
+	@Test
+	public void testGet_NullParameter() throws NoSuchMethodException {
+		ReflectorConstructor constructor = Constructors.forObj(new SampleThree()).get(null, short.class);
+		assertArrayEquals(new Class<?>[] { String.class, int.class }, constructor.getConstructor().getParameterTypes());
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void testGet_NoDefaultConstructor() throws NoSuchMethodException {
+		Constructors.forObj(Integer.valueOf(1)).get();
+	}
+
 	@Test
 	public void testForObj() {
 		SampleOne sample = new SampleOne();
@@ -30,9 +61,37 @@ public class ConstructorsTest {
 		assertNotNull(c);
 	}
 
+	@Test
+	public void testForClass() throws Exception {
+		ReflectorConstructor constructor = Constructors.forClass(SampleOne.class).get();
+		assertTrue(constructor.newInstance() instanceof SampleOne);
+	}
+
 	@Test
 	public void testList() {
 		HashSet<ReflectorConstructor> constructors = Constructors.forObj(new SampleOne()).list();
 		assertEquals(1, constructors.size());
 	}
+
+	@Test
+	public void testIterate() {
+		int count = 0;
+		for (ReflectorConstructor constructor : Constructors.forObj(new SampleThree()).iterate(null)) {
+			assertNotNull(constructor.getConstructor());
+			count++;
+		}
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void testForEach() {
+		final int[] count = new int[1];
+		Constructors.forObj(new SampleThree()).forEach(null, new Visitor<Constructor<?>>() {
+			public boolean visit(Constructor<?> constructor) {
+				count[0]++;
+				return true;
+			}
+		});
+		assertEquals(3, count[0]);
+	}
 }
@@ -0,0 +1,103 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Empty;
+import com.zabawaba.reflector.classes.Primitives;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleTwo;
+
+public class CopierTest {
+
+	@Test
+	public void testBetween_IsShared() {
+		assertSame(Copier.between(SampleOne.class, SampleTwo.class), Copier.between(SampleOne.class, SampleTwo.class));
+	}
+
+	@Test
+	public void testBetween_SharedAcrossLoaders() throws Exception {
+		// String's loader is a parent of every other loader, either class can
+		// keep the copier
+		assertSame(Copier.between(SampleOne.class, String.class), Copier.between(SampleOne.class, String.class));
+		assertSame(Copier.between(String.class, SampleOne.class), Copier.between(String.class, SampleOne.class));
+	}
+
+	@Test
+	public void testBetween_UnrelatedLoaders() throws Exception {
+		URL classes = SampleOne.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+		try {
+			Class<?> isolated = loader.loadClass(SampleOne.class.getName());
+			assertNotSame(Copier.between(SampleOne.class, isolated), Copier.between(SampleOne.class, isolated));
+			assertNotSame(Copier.between(isolated, SampleOne.class), Copier.between(isolated, SampleOne.class));
+		} finally {
+			loader.close();
+		}
+	}
+
+	@Test
+	public void testCopy_Primitives() throws Exception {
+		Primitives source = new Primitives();
+		source.intField = 1;
+		source.longField = 2L;
+		source.doubleField = 3.5;
+		source.booleanField = true;
+		source.shortField = 4;
+		source.boxedField = 5;
+
+		Primitives target = Copier.between(Primitives.class, Primitives.class).copy(source, new Primitives());
+		assertEquals(1, target.intField);
+		assertEquals(2L, target.longField);
+		assertEquals(3.5, target.doubleField, 0);
+		assertEquals(true, target.booleanField);
+		assertEquals(4, target.shortField);
+		assertEquals(Integer.valueOf(5), target.boxedField);
+	}
+
+	@Test
+	public void testCopy_SkipsMismatchedTypes() throws Exception {
+		Copier copier = Copier.between(SampleTwo.class, SampleOne.class);
+		// SampleTwo's int field1 shadows the String one
+		assertEquals(Arrays.asList("field2", "field3"), copier.getFieldNames());
+
+		SampleTwo source = new SampleTwo();
+		source.field1 = 7;
+		Fields.forObj(source).get("field2").setValue(8);
+		SampleOne target = copier.copy(source, new SampleOne());
+		assertNull(target.field1);
+		assertEquals(8, Fields.forObj(target).get("field2").getValue());
+	}
+
+	@Test
+	public void testCopy_ShadowedTargetField() throws Exception {
+		Copier copier = Copier.between(SampleOne.class, SampleTwo.class);
+		assertEquals(Arrays.asList("field2", "field3"), copier.getFieldNames());
+	}
+
+	@Test
+	public void testCopy_NothingInCommon() throws Exception {
+		Copier copier = Copier.between(Empty.class, Primitives.class);
+		assertEquals(0, copier.getFieldNames().size());
+		Primitives target = new Primitives();
+		assertSame(target, copier.copy(new Empty(), target));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopy_WrongSource() throws Exception {
+		Copier.between(SampleOne.class, SampleOne.class).copy(new Empty(), new SampleOne());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCopy_WrongTarget() throws Exception {
+		Copier.between(SampleOne.class, SampleOne.class).copy(new SampleOne(), new Empty());
+	}
+}
@@ -0,0 +1,138 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.Engines.PromotingConstructorAccess;
+import com.zabawaba.reflector.Engines.PromotingFieldAccess;
+import com.zabawaba.reflector.Engines.PromotingMethodAccess;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
+import com.zabawaba.reflector.classes.Values;
+
+public class EnginesTest {
+
+	private static final String UNKNOWN_ENGINE = "no-such-engine";
+
+	@Test
+	public void testEngines_OrderedByPriority() {
+		assertEquals("test", Engines.engines().get(0).getName());
+		assertEquals(MethodHandleEngine.NAME, Engines.engines().get(1).getName());
+		assertEquals(ReflectionEngine.NAME, Engines.engines().get(2).getName());
+	}
+
+	@Test
+	public void testFind() {
+		assertTrue(Engines.find(MethodHandleEngine.NAME) instanceof MethodHandleEngine);
+		assertSame(Engines.REFLECTION, Engines.find(ReflectionEngine.NAME));
+		assertNull(Engines.find("i_don't_exist"));
+	}
+
+	@Test
+	public void testForced() {
+		assertNull(Engines.forced(null));
+		assertSame(Engines.REFLECTION, Engines.forced(ReflectionEngine.NAME));
+	}
+
+	@Test
+	public void testForced_Unknown() {
+		assertNull(Engines.forced("i_don't_exist"));
+	}
+
+	@Test
+	public void testCreate_UnknownEngine() throws Exception {
+		// only set by the unknown-engine surefire run
+		assumeTrue(UNKNOWN_ENGINE.equals(System.getProperty(Engines.ENGINE_PROPERTY)));
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field1");
+		FieldAccess access = Engines.create(field);
+		assertTrue(access instanceof PromotingFieldAccess);
+
+		SampleOne sample = new SampleOne();
+		access.set(sample, "a");
+		assertEquals("a", access.get(sample));
+	}
+
+	@Test
+	public void testFastest() throws Exception {
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field1");
+		assertTrue(Engines.fastest(field) instanceof FieldAccessor);
+
+		Field name = ClassMetadata.forClass(Values.class).field("name");
+		FieldAccess access = Engines.fastest(name);
+		assertFalse(access instanceof FieldAccessor);
+		Values values = new Values();
+		values.name = "a";
+		assertEquals("a", access.get(values));
+	}
+
+	@Test
+	public void testCreate_NotMeasured() {
+		assumeFalse(ReflectorMetrics.isEnabled());
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field1");
+		assertTrue(Engines.create(field) instanceof PromotingFieldAccess);
+	}
+
+	@Test
+	public void testForField_Shared() {
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field1");
+		assertSame(Engines.forField(field), Engines.forField(field));
+	}
+
+	@Test
+	public void testForField_NotAccessible() throws NoSuchFieldException {
+		Field field = SampleOne.class.getDeclaredField("field3");
+		assertNotSame(Engines.forField(field), Engines.forField(field));
+	}
+
+	@Test
+	public void testPromotingFieldAccess() throws Exception {
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field2");
+		PromotingFieldAccess access = new PromotingFieldAccess(field, 3);
+		SampleOne sample = new SampleOne();
+		access.setInt(sample, 4);
+		assertEquals(4, access.getInt(sample));
+		assertFalse(access.isPromoted());
+		assertEquals(4, access.get(sample));
+		assertTrue(access.isPromoted());
+		access.set(sample, 5);
+		assertEquals(5, access.getInt(sample));
+	}
+
+	@Test
+	public void testPromotingMethodAccess_BatchCounts() throws Exception {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("method1");
+		PromotingMethodAccess access = new PromotingMethodAccess(method, 3);
+		SampleOne sample = new SampleOne();
+		sample.field1 = "a";
+		assertEquals("a", access.invoke(sample, null));
+		assertFalse(access.isPromoted());
+
+		Object[] results = new Object[3];
+		access.invokeAll(new Object[] { sample, sample, sample }, 0, 3, null, results);
+		assertTrue(access.isPromoted());
+		assertArrayEquals(new Object[] { "a", "a", "a" }, results);
+	}
+
+	@Test
+	public void testPromotingConstructorAccess() throws Exception {
+		Constructor<?> constructor = ClassMetadata.forClass(SampleThree.class).defaultConstructor();
+		PromotingConstructorAccess access = new PromotingConstructorAccess(constructor, 2);
+		assertTrue(access.newInstance(null) instanceof SampleThree);
+		assertFalse(access.isPromoted());
+		assertTrue(access.newInstance(new Object[0]) instanceof SampleThree);
+		assertTrue(access.isPromoted());
+	}
+}
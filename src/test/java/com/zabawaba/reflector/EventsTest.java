@@ -0,0 +1,108 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleOne;
+
+public class EventsTest {
+
+	static class Scanned {
+		int a;
+		long b;
+	}
+
+	@Before
+	public void setup() {
+		assumeTrue(Events.ENABLED);
+	}
+
+	@Test
+	public void testEvents() throws Exception {
+		List<RecordedEvent> events = record(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					Fields.forClass(Scanned.class).list(Fields.thatArePrivate());
+					Methods.forObj(new SampleOne()).get("method1").call();
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		});
+
+		RecordedEvent scan = find(events, "com.zabawaba.reflector.ClassScan", "field");
+		assertEquals(Scanned.class.getName(), scan.getClass("type").getName());
+		assertEquals(2, scan.getInt("memberCount"));
+
+		RecordedEvent list = find(events, "com.zabawaba.reflector.Lookup", "field");
+		assertEquals(Fields.thatArePrivate().toString(), list.getString("filter"));
+		assertEquals(0, list.getInt("resultCount"));
+
+		RecordedEvent get = find(events, "com.zabawaba.reflector.Lookup", "method");
+		assertEquals("method1", get.getString("name"));
+		assertEquals(1, get.getInt("resultCount"));
+
+		RecordedEvent invocation = find(events, "com.zabawaba.reflector.Invocation", null);
+		assertTrue(invocation.getString("member").endsWith("SampleOne.method1()"));
+	}
+
+	@Test
+	public void testBegin_NotRecording() {
+		assertEquals(null, Events.beginScan());
+		assertEquals(null, Events.beginLookup());
+		assertEquals(null, Events.beginInvocation());
+		// ending an event that isn't recorded does nothing
+		Events.endLookup(null, SampleOne.class, "field", "field1", null, 1);
+	}
+
+	private static List<RecordedEvent> record(Runnable work) throws Exception {
+		File file = File.createTempFile("reflector", ".jfr");
+		try {
+			Recording recording = new Recording();
+			try {
+				for (String name : new String[] { "ClassScan", "Lookup", "Invocation" }) {
+					recording.enable("com.zabawaba.reflector." + name).withThreshold(Duration.ZERO);
+				}
+				recording.start();
+				work.run();
+				recording.stop();
+				recording.dump(file.toPath());
+			} finally {
+				recording.close();
+			}
+			List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(file.toPath())) {
+				if (event.getEventType().getName().startsWith("com.zabawaba.reflector.")) {
+					events.add(event);
+				}
+			}
+			return events;
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static RecordedEvent find(List<RecordedEvent> events, String name, String kind) {
+		for (RecordedEvent event : events) {
+			if (event.getEventType().getName().equals(name)
+					&& (kind == null || kind.equals(event.getString("kind")))) {
+				return event;
+			}
+		}
+		throw new AssertionError("no " + name + " event in " + events);
+	}
+}
@@ -0,0 +1,95 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleOne;
+
+public class FieldAccessorTest {
+
+	@Test
+	public void testForField_Shared() {
+		Field field = ClassMetadata.forClass(SampleOne.class).field("field3");
+		assertSame(FieldAccessor.forField(field), FieldAccessor.forField(field));
+		assertTrue(FieldAccessor.forField(field).hasHandles());
+	}
+
+	@Test
+	public void testForField_NotAccessible() throws NoSuchFieldException {
+		Field field = SampleOne.class.getDeclaredField("field3");
+		FieldAccessor accessor = FieldAccessor.forField(field);
+		assertFalse(accessor.hasHandles());
+		assertEquals(field, accessor.getField());
+	}
+
+	@Test
+	public void testGet() throws Exception {
+		SampleOne sample = new SampleOne();
+		sample.field1 = "foobar";
+		assertEquals("foobar", new FieldAccessor(SampleOne.class.getField("field1")).get(sample));
+	}
+
+	@Test
+	public void testGet_Static() throws Exception {
+		assertEquals(Integer.MAX_VALUE, new FieldAccessor(Integer.class.getField("MAX_VALUE")).get(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testGet_WrongTarget() throws Exception {
+		new FieldAccessor(SampleOne.class.getField("field1")).get(new Object());
+	}
+
+	@Test
+	public void testSet() throws Exception {
+		SampleOne sample = new SampleOne();
+		new FieldAccessor(SampleOne.class.getField("field1")).set(sample, "foobar");
+		assertEquals("foobar", sample.field1);
+	}
+
+	@Test
+	public void testSet_Primitive() throws Exception {
+		SampleOne sample = new SampleOne();
+		FieldAccessor accessor = FieldAccessor.forField(ClassMetadata.forClass(SampleOne.class).field("field2"));
+		accessor.set(sample, 7);
+		assertEquals(7, accessor.get(sample));
+	}
+
+	@Test
+	public void testSet_Widening() throws Exception {
+		SampleOne sample = new SampleOne();
+		FieldAccessor accessor = FieldAccessor.forField(ClassMetadata.forClass(SampleOne.class).field("field3"));
+		accessor.set(sample, 7);
+		assertEquals(7f, accessor.get(sample));
+	}
+
+	@Test
+	public void testSet_Null() throws Exception {
+		SampleOne sample = new SampleOne();
+		sample.field1 = "foobar";
+		new FieldAccessor(SampleOne.class.getField("field1")).set(sample, null);
+		assertNull(sample.field1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSet_NullPrimitive() throws Exception {
+		FieldAccessor accessor = FieldAccessor.forField(ClassMetadata.forClass(SampleOne.class).field("field2"));
+		accessor.set(new SampleOne(), null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSet_WrongType() throws Exception {
+		new FieldAccessor(SampleOne.class.getField("field1")).set(new SampleOne(), 1);
+	}
+
+	@Test(expected = IllegalAccessException.class)
+	public void testSet_Final() throws Exception {
+		new FieldAccessor(Integer.class.getField("MAX_VALUE")).set(null, 1);
+	}
+}
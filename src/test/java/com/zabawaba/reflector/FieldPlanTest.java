@@ -0,0 +1,123 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Primitives;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleTwo;
+import com.zabawaba.reflector.classes.Values;
+
+public class FieldPlanTest {
+
+	private static Values values(String name) {
+		Values v = new Values();
+		v.letter = 'x';
+		v.ratio = 0.5f;
+		v.id = 1L << 40;
+		v.name = name;
+		v.numbers = new int[] { 1, 2 };
+		return v;
+	}
+
+	@Test
+	public void testSize_SkipsStaticFields() {
+		assertEquals(5, new FieldPlan(Values.class, null).size());
+	}
+
+	@Test
+	public void testSize_IncludesShadowedFields() {
+		assertEquals(4, new FieldPlan(SampleTwo.class, null).size());
+	}
+
+	@Test
+	public void testEqual() {
+		FieldPlan plan = new FieldPlan(Values.class, null);
+		assertTrue(plan.equal(values("a"), values("a")));
+		assertFalse(plan.equal(values("a"), values("b")));
+		assertFalse(plan.equal(values("a"), null));
+		assertTrue(plan.equal(null, null));
+
+		Values other = values("a");
+		other.numbers[1] = 3;
+		assertFalse(plan.equal(values("a"), other));
+	}
+
+	@Test
+	public void testEqual_Primitives() {
+		FieldPlan plan = new FieldPlan(Primitives.class, null);
+		Primitives a = new Primitives();
+		Primitives b = new Primitives();
+		a.doubleField = b.doubleField = Double.NaN;
+		assertTrue(plan.equal(a, b));
+		b.doubleField = -0.0;
+		a.doubleField = 0.0;
+		assertFalse(plan.equal(a, b));
+	}
+
+	@Test
+	public void testEqual_ExactClass() {
+		FieldPlan plan = new FieldPlan(SampleOne.class, null);
+		assertFalse(plan.equal(new SampleOne(), new SampleTwo()));
+	}
+
+	@Test
+	public void testEqual_WrongType() {
+		FieldPlan plan = new FieldPlan(Values.class, null);
+		assertFalse(plan.equal(new SampleOne(), new SampleOne()));
+		assertFalse(plan.equal(new SampleOne(), values("a")));
+		assertFalse(plan.equal(values("a"), new SampleOne()));
+	}
+
+	@Test
+	public void testEqual_Null() {
+		FieldPlan plan = new FieldPlan(Values.class, null);
+		assertFalse(plan.equal(null, values("a")));
+		assertFalse(plan.equal(new SampleOne(), null));
+	}
+
+	@Test
+	public void testEqual_Filtered() {
+		FieldPlan plan = new FieldPlan(Values.class, Fields.thatStartWith("n"));
+		Values other = values("a");
+		other.id = 7;
+		assertTrue(plan.equal(values("a"), other));
+		assertFalse(plan.equal(values("a"), values("b")));
+	}
+
+	@Test
+	public void testHash() {
+		FieldPlan plan = new FieldPlan(Values.class, null);
+		assertEquals(plan.hash(values("a")), plan.hash(values("a")));
+		assertNotEquals(plan.hash(values("a")), plan.hash(values("b")));
+		assertEquals(0, plan.hash(null));
+	}
+
+	@Test
+	public void testHash_MatchesArraysHashCode() {
+		FieldPlan plan = new FieldPlan(Primitives.class, new Filter<Field>() {
+			@Override
+			public boolean apply(Field object) {
+				return object.getName().equals("intField") || object.getName().equals("boxedField");
+			}
+		});
+		Primitives obj = new Primitives();
+		obj.intField = 4;
+		obj.boxedField = 9;
+		assertEquals(java.util.Arrays.hashCode(new Object[] { 4, 9 }), plan.hash(obj));
+	}
+
+	@Test
+	public void testDescribe() {
+		FieldPlan plan = new FieldPlan(Values.class, null);
+		assertEquals("Values[letter=x, ratio=0.5, id=1099511627776, name=a, numbers=[1, 2]]",
+				plan.describe(values("a")));
+		assertEquals("null", plan.describe(null));
+	}
+}
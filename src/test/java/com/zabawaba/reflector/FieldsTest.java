@@ -8,12 +8,17 @@ import static org.junit.Assert.fail;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.junit.Test;
 
 import com.zabawaba.reflector.classes.Empty;
 import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleTwo;
 
 public class FieldsTest {
 
@@ -31,6 +36,18 @@ public class FieldsTest {
 		fail("should have through exception");
 	}
 
+	@Test
+	public void testGet_ShadowedField() throws NoSuchFieldException {
+		ReflectorField field = Fields.forObj(new SampleTwo()).get("field1");
+		assertEquals(SampleTwo.class, field.getField().getDeclaringClass());
+	}
+
+	@Test
+	public void testGet_SuperclassField() throws NoSuchFieldException {
+		ReflectorField field = Fields.forObj(new SampleTwo()).get("field2");
+		assertEquals(SampleOne.class, field.getField().getDeclaringClass());
+	}
+
 	@Test
 	public void testForObj() {
 		SampleOne sample = new SampleOne();
@@ -38,6 +55,18 @@ public class FieldsTest {
 		assertNotNull(f);
 	}
 
+	@Test
+	public void testForClass() throws Exception {
+		ReflectorField field = Fields.forClass(SampleOne.class).get("field1");
+		SampleOne first = new SampleOne();
+		SampleOne second = new SampleOne();
+		field.setValue(first, "first");
+		field.setValue(second, "second");
+		assertEquals("first", field.getValue(first));
+		assertEquals("second", field.getValue(second));
+		assertEquals(3, Fields.forClass(SampleOne.class).list().size());
+	}
+
 	@Test
 	public void testList() {
 		HashSet<ReflectorField> fields = Fields.forObj(new SampleOne()).list();
@@ -58,12 +87,76 @@ public class FieldsTest {
 		assertEquals(1, fields.size());
 	}
 
+	@Test
+	public void testListWithFilter_Memoized() {
+		Filter<Field> filter = Filters.memoized(Fields.thatArePrivate());
+		assertEquals(1, Fields.forObj(new SampleOne()).list(filter).size());
+		assertEquals(1, Fields.forObj(new SampleOne()).list(filter).size());
+	}
+
+	@Test
+	public void testIterate_Memoized() {
+		int count = 0;
+		for (ReflectorField field : Fields.forObj(new SampleOne()).iterate(Filters.memoized(Fields.thatArePublic()))) {
+			assertEquals("field1", field.getField().getName());
+			count++;
+		}
+		assertEquals(1, count);
+	}
+
 	@Test
 	public void tesListWithFilter_NullFilter() {
 		HashSet<ReflectorField> fields = Fields.forObj(new SampleOne()).list(null);
 		assertEquals(3, fields.size());
 	}
 
+	@Test
+	public void testIterate() {
+		int count = 0;
+		for (ReflectorField field : Fields.forObj(new SampleOne()).iterate(null)) {
+			assertNotNull(field.getField());
+			count++;
+		}
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void testIterate_WithFilter() {
+		Iterator<ReflectorField> fields = Fields.forObj(new SampleOne()).iterate(Fields.thatArePrivate()).iterator();
+		assertTrue(fields.hasNext());
+		assertEquals("field3", fields.next().getField().getName());
+		assertFalse(fields.hasNext());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testIterate_Exhausted() {
+		Fields.forObj(new Empty()).iterate(null).iterator().next();
+	}
+
+	@Test
+	public void testForEach() {
+		final List<String> names = new ArrayList<String>();
+		Fields.forObj(new SampleOne()).forEach(Fields.thatStartWith("field"), new Visitor<Field>() {
+			public boolean visit(Field field) {
+				names.add(field.getName());
+				return true;
+			}
+		});
+		assertEquals(3, names.size());
+	}
+
+	@Test
+	public void testForEach_Stops() {
+		final List<String> names = new ArrayList<String>();
+		Fields.forObj(new SampleOne()).forEach(null, new Visitor<Field>() {
+			public boolean visit(Field field) {
+				names.add(field.getName());
+				return false;
+			}
+		});
+		assertEquals(1, names.size());
+	}
+
 	@Test
 	public void testPublicFieldFilter() throws NoSuchFieldException, SecurityException {
 		Field field = SampleOne.class.getField("field1");
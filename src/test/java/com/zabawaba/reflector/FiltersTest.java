@@ -0,0 +1,132 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleOne;
+
+public class FiltersTest {
+
+	private static final Filter<Field> NOT_FIELD1 = new Filter<Field>() {
+		public boolean apply(Field field) {
+			return !field.getName().equals("field1");
+		}
+	};
+
+	@Test
+	public void testAll() throws NoSuchFieldException {
+		assertTrue(Filters.<Field> all().apply(SampleOne.class.getField("field1")));
+	}
+
+	@Test
+	public void testAnd() throws NoSuchFieldException {
+		Filter<Field> f = Filters.and(Fields.thatAreProtected(), Fields.thatStartWith("field"), Fields.thatEndWith("2"));
+		assertTrue(f.apply(SampleOne.class.getDeclaredField("field2")));
+		assertFalse(f.apply(SampleOne.class.getDeclaredField("field3")));
+		assertFalse(f.apply(SampleOne.class.getDeclaredField("field1")));
+	}
+
+	@Test
+	public void testAnd_FusesModifiers() {
+		Filter<Field> f = Filters.and(Fields.thatHaveModifiers(Modifier.PROTECTED),
+				Fields.thatHaveModifiers(Modifier.VOLATILE));
+		assertEquals(Fields.thatHaveModifiers(Modifier.PROTECTED, Modifier.VOLATILE), f);
+	}
+
+	@Test
+	public void testAnd_FusesNames() {
+		Filter<Field> f = Filters.and(Fields.thatStartWith("f"), Fields.thatEndWith("3"));
+		assertTrue(f instanceof NameFilter);
+	}
+
+	@Test
+	public void testAnd_ContradictingModifiers() throws NoSuchFieldException {
+		Filter<Field> f = Filters.and(Fields.thatArePublic(), Filters.not(Fields.thatArePublic()));
+		assertFalse(f.apply(SampleOne.class.getField("field1")));
+		assertFalse(f.apply(SampleOne.class.getDeclaredField("field3")));
+	}
+
+	@Test
+	public void testAnd_CustomFilter() throws NoSuchFieldException {
+		Filter<Field> f = Filters.and(NOT_FIELD1, Fields.thatStartWith("field"), null);
+		assertTrue(f.apply(SampleOne.class.getDeclaredField("field2")));
+		assertFalse(f.apply(SampleOne.class.getField("field1")));
+	}
+
+	@Test
+	public void testAnd_Nothing() {
+		assertSame(Filters.all(), Filters.<Field> and());
+	}
+
+	@Test
+	public void testOr() throws NoSuchMethodException {
+		Filter<Method> f = Filters.or(Methods.thatArePrivate(), Methods.thatAreProtected());
+		assertTrue(f.apply(SampleOne.class.getDeclaredMethod("notPublic")));
+		assertTrue(f.apply(SampleOne.class.getDeclaredMethod("methodPrivate")));
+		assertFalse(f.apply(SampleOne.class.getDeclaredMethod("method1")));
+	}
+
+	@Test
+	public void testOr_Null() {
+		assertSame(Filters.all(), Filters.or(Methods.thatArePrivate(), null));
+	}
+
+	@Test
+	public void testNot() throws NoSuchFieldException {
+		Filter<Field> f = Filters.not(Fields.thatArePublic());
+		assertTrue(f instanceof ModifierFilter);
+		assertFalse(f.apply(SampleOne.class.getField("field1")));
+		assertTrue(f.apply(SampleOne.class.getDeclaredField("field2")));
+		assertEquals(Fields.thatArePublic(), Filters.not(f));
+	}
+
+	@Test
+	public void testNot_CustomFilter() throws NoSuchFieldException {
+		Filter<Field> f = Filters.not(NOT_FIELD1);
+		assertTrue(f.apply(SampleOne.class.getField("field1")));
+		assertSame(NOT_FIELD1, Filters.not(f));
+	}
+
+	@Test
+	public void testNot_Null() throws NoSuchFieldException {
+		Filter<Field> f = Filters.not(null);
+		assertFalse(f.apply(SampleOne.class.getField("field1")));
+		assertSame(Filters.all(), Filters.not(f));
+	}
+
+	@Test
+	public void testOverloads() throws NoSuchFieldException {
+		Field field2 = SampleOne.class.getDeclaredField("field2");
+		assertSame(NOT_FIELD1, Filters.and(NOT_FIELD1));
+		assertSame(NOT_FIELD1, Filters.or(NOT_FIELD1));
+		assertEquals(Filters.and(Fields.thatAreProtected(), NOT_FIELD1, null),
+				Filters.and(Fields.thatAreProtected(), NOT_FIELD1));
+		assertTrue(Filters.or(Fields.thatArePublic(), Fields.thatArePrivate(), NOT_FIELD1).apply(field2));
+	}
+
+	@Test
+	public void testEquality() {
+		assertEquals(Fields.thatStartWith("a"), Fields.thatStartWith("a"));
+		assertEquals(Filters.and(Fields.thatArePublic(), NOT_FIELD1), Filters.and(Fields.thatArePublic(), NOT_FIELD1));
+		assertEquals(Filters.and(Fields.thatArePublic(), NOT_FIELD1).hashCode(),
+				Filters.and(Fields.thatArePublic(), NOT_FIELD1).hashCode());
+		assertFalse(Filters.or(Fields.thatArePublic(), NOT_FIELD1).equals(Filters.and(Fields.thatArePublic(), NOT_FIELD1)));
+	}
+
+	@Test
+	public void testMemoized() throws NoSuchFieldException {
+		Filter<Field> f = Filters.memoized(Fields.thatArePublic());
+		assertTrue(f.apply(SampleOne.class.getField("field1")));
+		assertEquals(f, Filters.memoized(Fields.thatArePublic()));
+		assertSame(f, Filters.memoized(f));
+		assertFalse(f.equals(Fields.thatArePublic()));
+	}
+}
@@ -0,0 +1,134 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Node;
+
+public class GraphWalkerTest {
+
+	private static class Recorder implements GraphVisitor {
+		final List<Object> values = new ArrayList<Object>();
+		final List<String> fields = new ArrayList<String>();
+		final List<Integer> depths = new ArrayList<Integer>();
+
+		@Override
+		public boolean visit(Object owner, Field field, Object value, int depth) {
+			values.add(value);
+			fields.add(field == null ? null : field.getName());
+			depths.add(depth);
+			return true;
+		}
+	}
+
+	@Test
+	public void testWalk_Null() {
+		assertEquals(0, GraphWalker.create().walk(null, new Recorder()));
+	}
+
+	@Test
+	public void testWalk_Order() {
+		Node root = new Node(0);
+		root.next = new Node(1);
+		root.next.next = new Node(2);
+		root.children = new Node[] { new Node(3) };
+
+		Recorder recorder = new Recorder();
+		assertEquals(5, GraphWalker.create().walk(root, recorder));
+		assertEquals(root, recorder.values.get(0));
+		assertEquals(null, recorder.fields.get(0));
+		// depth first, a node's fields come right after it
+		int index = recorder.values.indexOf(root.next);
+		assertEquals(root.next.next, recorder.values.get(index + 1));
+		assertEquals("next", recorder.fields.get(index + 1));
+		assertEquals(Integer.valueOf(2), recorder.depths.get(index + 1));
+	}
+
+	@Test
+	public void testWalk_Cycle() {
+		Node a = new Node(0);
+		Node b = new Node(1);
+		a.next = b;
+		b.next = a;
+		a.value = b;
+
+		Recorder recorder = new Recorder();
+		assertEquals(2, GraphWalker.create().walk(a, recorder));
+	}
+
+	@Test
+	public void testWalk_Array() {
+		Node root = new Node(0);
+		Node shared = new Node(1);
+		root.children = new Node[] { shared, null, new Node(2), shared };
+		root.value = new int[] { 1, 2 };
+
+		Recorder recorder = new Recorder();
+		// root, the int array, children and both distinct nodes
+		assertEquals(5, GraphWalker.create().walk(root, recorder));
+		int index = recorder.values.indexOf(shared);
+		assertEquals(root.children, recorder.values.get(index - 1));
+		assertEquals(null, recorder.fields.get(index));
+	}
+
+	@Test
+	public void testWalk_Deep() {
+		Node root = new Node(0);
+		Node current = root;
+		for (int i = 1; i < 1000000; i++) {
+			current.next = new Node(i);
+			current = current.next;
+		}
+		current.next = root;
+
+		final int[] maxDepth = new int[1];
+		long count = GraphWalker.create().walk(root, new GraphVisitor() {
+			@Override
+			public boolean visit(Object owner, Field field, Object value, int depth) {
+				maxDepth[0] = Math.max(maxDepth[0], depth);
+				return true;
+			}
+		});
+		assertEquals(1000000, count);
+		assertEquals(999999, maxDepth[0]);
+	}
+
+	@Test
+	public void testWalk_Filter() {
+		Node root = new Node(0);
+		root.next = new Node(1);
+		root.value = new Node(2);
+
+		Recorder recorder = new Recorder();
+		assertEquals(2, GraphWalker.create(Fields.thatStartWith("ne")).walk(root, recorder));
+		assertEquals(root.next, recorder.values.get(1));
+	}
+
+	@Test
+	public void testWalk_Prune() {
+		Node root = new Node(0);
+		root.next = new Node(1);
+		root.next.next = new Node(2);
+
+		long count = GraphWalker.create().walk(root, new GraphVisitor() {
+			@Override
+			public boolean visit(Object owner, Field field, Object value, int depth) {
+				return depth == 0;
+			}
+		});
+		assertEquals(2, count);
+	}
+
+	@Test
+	public void testWalk_ClassIsLeaf() {
+		Node root = new Node(0);
+		root.value = Node.class;
+
+		assertEquals(2, GraphWalker.create().walk(root, new Recorder()));
+	}
+}
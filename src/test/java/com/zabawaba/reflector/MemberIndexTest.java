@@ -0,0 +1,40 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleFour;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleTwo;
+
+public class MemberIndexTest {
+
+	@Test
+	public void testLoad() {
+		MemberIndex index = MemberIndex.load(SampleFour.class);
+		assertNotNull(index);
+		assertEquals(SampleFour.class.getName(), index.fieldOwner("four"));
+		assertEquals(SampleTwo.class.getName(), index.fieldOwner("field1"));
+		assertEquals(SampleOne.class.getName(), index.fieldOwner("field3"));
+		assertEquals(SampleFour.class.getName(), index.methodOwner("override"));
+		assertEquals(SampleTwo.class.getName(), index.methodOwner("method1"));
+		assertEquals(Object.class.getName(), index.methodOwner("hashCode"));
+	}
+
+	@Test
+	public void testLoad_Missing() {
+		MemberIndex index = MemberIndex.load(SampleFour.class);
+		assertNull(index.fieldOwner("i_don't_exist"));
+		assertNull(index.methodOwner("i_don't_exist"));
+	}
+
+	@Test
+	public void testLoad_NotIndexed() {
+		assertNull(MemberIndex.load(SampleOne.class));
+		assertNull(MemberIndex.load(String.class));
+		assertNull(MemberIndex.load(int.class));
+	}
+}
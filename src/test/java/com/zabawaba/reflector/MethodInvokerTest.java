@@ -0,0 +1,103 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleOne;
+
+public class MethodInvokerTest {
+
+	@Test
+	public void testForMethod_Shared() throws NoSuchMethodException {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("method1");
+		assertSame(MethodInvoker.forMethod(method), MethodInvoker.forMethod(method));
+		assertTrue(MethodInvoker.forMethod(method).hasHandle());
+	}
+
+	@Test
+	public void testForMethod_NotAccessible() throws NoSuchMethodException {
+		Method method = SampleOne.class.getDeclaredMethod("notPublic");
+		MethodInvoker invoker = MethodInvoker.forMethod(method);
+		assertFalse(invoker.hasHandle());
+		assertEquals(method, invoker.getMethod());
+	}
+
+	@Test
+	public void testInvoke() throws Exception {
+		SampleOne sample = new SampleOne();
+		sample.field1 = "foobar";
+		MethodInvoker invoker = new MethodInvoker(SampleOne.class.getMethod("method1"));
+		assertEquals("foobar", invoker.invoke(sample, new Object[0]));
+	}
+
+	@Test
+	public void testInvoke_Parameters() throws Exception {
+		MethodInvoker invoker = new MethodInvoker(SampleOne.class.getMethod("override", String.class, String.class));
+		assertEquals(2, invoker.invoke(new SampleOne(), new Object[] { "a", "b" }));
+	}
+
+	@Test
+	public void testInvoke_Static() throws Exception {
+		MethodInvoker invoker = new MethodInvoker(Integer.class.getMethod("parseInt", String.class));
+		assertEquals(12, invoker.invoke(null, new Object[] { "12" }));
+	}
+
+	@Test
+	public void testInvoke_Void() throws Exception {
+		MethodInvoker invoker = new MethodInvoker(SampleOne.class.getMethod("method2"));
+		assertNull(invoker.invoke(new SampleOne(), null));
+	}
+
+	@Test
+	public void testInvoke_WideningFallsBackToReflection() throws Exception {
+		MethodInvoker invoker = new MethodInvoker(Long.class.getMethod("valueOf", long.class));
+		assertEquals(3L, invoker.invoke(null, new Object[] { 3 }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvoke_WrongTarget() throws Exception {
+		new MethodInvoker(SampleOne.class.getMethod("method1")).invoke(new Object(), new Object[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvoke_WrongParameters() throws Exception {
+		new MethodInvoker(SampleOne.class.getMethod("method1")).invoke(new SampleOne(), new Object[] { "foo" });
+	}
+
+	@Test
+	public void testInvoke_InvocationTarget() throws Exception {
+		try {
+			new MethodInvoker(SampleOne.class.getMethod("blowup")).invoke(new SampleOne(), new Object[0]);
+			fail("should have failed");
+		} catch (InvocationTargetException e) {
+			assertEquals("BOOM!", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void testInvokeAll_Range() throws Exception {
+		MethodInvoker invoker = new MethodInvoker(Integer.class.getMethod("parseInt", String.class));
+		Object[] results = new Object[4];
+		invoker.invokeAll(new Object[4], 1, 3, new Object[] { "7" }, results);
+		assertArrayEquals(new Object[] { null, 7, 7, null }, results);
+	}
+
+	@Test
+	public void testInvokeAll_WidenedParameters() throws Exception {
+		// needs widening, so every target goes through reflection
+		MethodInvoker invoker = new MethodInvoker(Long.class.getMethod("valueOf", long.class));
+		Object[] results = new Object[2];
+		invoker.invokeAll(new Object[2], 0, 2, new Object[] { 3 }, results);
+		assertArrayEquals(new Object[] { 3L, 3L }, results);
+	}
+}
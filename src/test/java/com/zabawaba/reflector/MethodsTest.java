@@ -10,9 +10,13 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.HashSet;
 
+import org.example.Bar;
 import org.junit.Test;
 
+import com.zabawaba.reflector.classes.Names;
+import com.zabawaba.reflector.classes.SampleFour;
 import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleTwo;
 
 public class MethodsTest {
 
@@ -30,6 +34,73 @@ public class MethodsTest {
 		fail("should have through exception");
 	}
 
+	@Test
+	public void testGet_Overloaded() throws NoSuchMethodException {
+		ReflectorMethod method = Methods.forObj(new SampleOne()).get("override");
+		assertEquals(1, method.getMethod().getParameterTypes().length);
+	}
+
+	@Test
+	public void testGet_SkipsBridges() throws NoSuchMethodException {
+		Method compareTo = Methods.forClass(Bar.class).get("compareTo").getMethod();
+		assertFalse(compareTo.isBridge());
+		assertEquals(Bar.class, compareTo.getParameterTypes()[0]);
+
+		Method get = Methods.forClass(Bar.class).get("get").getMethod();
+		assertFalse(get.isBridge());
+		assertEquals(String.class, get.getReturnType());
+	}
+
+	@Test
+	public void testGet_Overridden() throws NoSuchMethodException {
+		ReflectorMethod method = Methods.forObj(new SampleTwo()).get("method1");
+		assertEquals(SampleTwo.class, method.getMethod().getDeclaringClass());
+	}
+
+	@Test
+	public void testGet_OverloadedInSubclass() throws NoSuchMethodException {
+		ReflectorMethod method = Methods.forObj(new SampleTwo()).get("override");
+		assertEquals(SampleTwo.class, method.getMethod().getDeclaringClass());
+	}
+
+	@Test
+	public void testGet_ParameterTypes() throws Exception {
+		Methods methods = Methods.forObj(new SampleFour());
+		assertEquals(SampleTwo.class, methods.get("override", int.class).getMethod().getDeclaringClass());
+		assertEquals(SampleFour.class, methods.get("override", long.class).getMethod().getDeclaringClass());
+		assertEquals(2, methods.get("override", String.class, String.class).call("a", "b"));
+		assertEquals(SampleTwo.class, methods.get("method1", (Class<?>[]) null).getMethod().getDeclaringClass());
+	}
+
+	@Test
+	public void testGet_ParameterTypesMostSpecific() throws Exception {
+		Methods methods = Methods.forObj(new SampleFour());
+		// short widens to both int and long, int is more specific
+		assertEquals(int.class, methods.get("override", short.class).getMethod().getParameterTypes()[0]);
+		assertEquals(String.class, methods.get("override", (Class<?>) null).getMethod().getParameterTypes()[0]);
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void testGet_ParameterTypesMissing() throws NoSuchMethodException {
+		Methods.forObj(new SampleFour()).get("override", Object.class);
+	}
+
+	@Test
+	public void testResolve() throws Exception {
+		Methods methods = Methods.forObj(new SampleFour());
+		assertEquals(3, methods.resolve("override", 5).call(5));
+		assertEquals(4, methods.resolve("override", 5L).call(5L));
+		assertEquals(5, methods.resolve("override", 1, 2).call(1, 2));
+		assertEquals(1, methods.resolve("override", "a").call("a"));
+		assertEquals(2, methods.resolve("override", "a", null).call("a", null));
+		assertEquals("two", methods.resolve("method1").call());
+	}
+
+	@Test(expected = NoSuchMethodException.class)
+	public void testResolve_Missing() throws NoSuchMethodException {
+		Methods.forObj(new SampleFour()).resolve("override", new Object());
+	}
+
 	@Test
 	public void testForObj() {
 		SampleOne sample = new SampleOne();
@@ -37,6 +108,15 @@ public class MethodsTest {
 		assertNotNull(m);
 	}
 
+	@Test
+	public void testForClass() throws Exception {
+		ReflectorMethod method = Methods.forClass(SampleOne.class).get("method1");
+		SampleOne sample = new SampleOne();
+		sample.field1 = "foobar";
+		assertEquals("foobar", method.invoke(sample));
+		assertEquals(19, Methods.forClass(SampleOne.class).list().size());
+	}
+
 	@Test
 	public void testList() {
 		HashSet<ReflectorMethod> methods = Methods.forObj(new SampleOne()).list();
@@ -55,6 +135,73 @@ public class MethodsTest {
 		assertEquals(19, methods.size());
 	}
 
+	@Test
+	public void testListDistinct() {
+		HashSet<ReflectorMethod> methods = Methods.forClass(SampleTwo.class).listDistinct();
+		int method1 = 0;
+		for (ReflectorMethod m : methods) {
+			if (m.getMethod().getName().equals("method1")) {
+				assertEquals(SampleTwo.class, m.getMethod().getDeclaringClass());
+				method1++;
+			}
+		}
+		assertEquals(1, method1);
+		// override(int) and both override(String...) overloads are kept
+		assertEquals(3, Methods.forClass(SampleTwo.class).listDistinct(Methods.thatStartWith("override")).size());
+	}
+
+	@Test
+	public void testListDistinct_SkipsBridges() {
+		for (ReflectorMethod m : Methods.forClass(Names.class).listDistinct(Methods.thatStartWith("compareTo"))) {
+			assertFalse(m.getMethod().isBridge());
+			assertEquals(Names.class, m.getMethod().getParameterTypes()[0]);
+		}
+		assertEquals(1, Methods.forClass(Names.class).listDistinct(Methods.thatStartWith("compareTo")).size());
+	}
+
+	@Test
+	public void testListDistinct_DefaultMethods() throws Exception {
+		Method forEach;
+		try {
+			forEach = Iterable.class.getMethod("forEach", Class.forName("java.util.function.Consumer"));
+		} catch (ClassNotFoundException e) {
+			// no default methods before Java 8
+			return;
+		}
+		HashSet<ReflectorMethod> methods = Methods.forClass(Names.class).listDistinct(Methods.thatStartWith("forEach"));
+		assertEquals(1, methods.size());
+		assertEquals(forEach, methods.iterator().next().getMethod());
+	}
+
+	@Test
+	public void testListDistinct_Memoized() {
+		Filter<Method> filter = Filters.memoized(Methods.thatStartWith("method1"));
+		assertEquals(1, Methods.forClass(SampleTwo.class).listDistinct(filter).size());
+		assertEquals(2, Methods.forClass(SampleTwo.class).list(filter).size());
+	}
+
+	@Test
+	public void testIterate() {
+		int count = 0;
+		for (ReflectorMethod method : Methods.forObj(new SampleOne()).iterate(Methods.PUBLIC_METHODS)) {
+			assertNotNull(method.getMethod());
+			count++;
+		}
+		assertEquals(14, count);
+	}
+
+	@Test
+	public void testForEach() {
+		final int[] count = new int[1];
+		Methods.forObj(new SampleOne()).forEach(Methods.thatStartWith("override"), new Visitor<Method>() {
+			public boolean visit(Method method) {
+				count[0]++;
+				return true;
+			}
+		});
+		assertEquals(2, count[0]);
+	}
+
 	@Test
 	public void testPublicMethodFilter() throws NoSuchMethodException, SecurityException {
 		Method method = SampleOne.class.getMethod("method1");
@@ -1,6 +1,7 @@
 package com.zabawaba.reflector;
 
 import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -34,4 +35,17 @@ public class ReflectorConstructorTest {
 		ReflectorConstructor rConstructor = new ReflectorConstructor(sample, constructor);
 		assertNotNull(expected, rConstructor.newInstance());
 	}
+
+	@Test
+	public void testNewInstance_Parameters() throws Exception {
+		Constructor<SampleThree> constructor = SampleThree.class.getConstructor(String.class, int.class);
+		ReflectorConstructor rConstructor = new ReflectorConstructor(sample, constructor);
+		assertEquals("foo", ((SampleThree) rConstructor.newInstance("foo", 1)).getName());
+	}
+
+	@Test(expected = InstantiationException.class)
+	public void testNewInstance_IllegalAccess() throws Exception {
+		Constructor<SampleThree> constructor = SampleThree.class.getDeclaredConstructor(Number.class);
+		new ReflectorConstructor(sample, constructor).newInstance(1);
+	}
 }
@@ -8,6 +8,7 @@ import java.lang.reflect.Field;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.zabawaba.reflector.classes.Primitives;
 import com.zabawaba.reflector.classes.SampleOne;
 
 public class ReflectorFieldTest {
@@ -50,6 +51,48 @@ public class ReflectorFieldTest {
 		assertNull(rField.getValue());
 	}
 
+	@Test
+	public void testSetValue() throws IllegalAccessException {
+		ReflectorField rField = new ReflectorField(sample, field);
+		rField.setValue(expected);
+		assertEquals(expected, sample.field1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetValue_IllegalArgument() throws IllegalAccessException {
+		new ReflectorField(sample, field).setValue(1);
+	}
+
+	@Test(expected = IllegalAccessException.class)
+	public void testSetValue_IllegalAccess() throws NoSuchFieldException, IllegalAccessException {
+		Field field = SampleOne.class.getDeclaredField("field3");
+		new ReflectorField(new SampleOne(), field).setValue(1f);
+	}
+
+	@Test
+	public void testGetValue_Target() {
+		SampleOne other = new SampleOne();
+		other.field1 = expected;
+		ReflectorField rField = new ReflectorField(sample, field);
+		assertEquals(expected, rField.getValue(other));
+		assertNull(rField.getValue());
+	}
+
+	@Test
+	public void testSetValue_Target() throws IllegalAccessException {
+		SampleOne other = new SampleOne();
+		new ReflectorField(null, field).setValue(other, expected);
+		assertEquals(expected, other.field1);
+	}
+
+	@Test
+	public void testPrimitives_Target() throws Exception {
+		Primitives primitives = new Primitives();
+		ReflectorField rField = new ReflectorField(null, Primitives.class.getField("longField"));
+		rField.setLong(primitives, 5L);
+		assertEquals(5L, rField.getLong(primitives));
+	}
+
 	@Test
 	public void testValueEqual() {
 		sample.field1 = expected;
@@ -75,4 +118,84 @@ public class ReflectorFieldTest {
 		ReflectorField rField = new ReflectorField(sample, field);
 		assertEquals(true, rField.valueEquals(null));
 	}
+
+	@Test
+	public void testPrimitiveGettersAndSetters() throws Exception {
+		Primitives primitives = new Primitives();
+		ReflectorField intField = new ReflectorField(primitives, Primitives.class.getField("intField"));
+		ReflectorField longField = new ReflectorField(primitives, Primitives.class.getField("longField"));
+		ReflectorField doubleField = new ReflectorField(primitives, Primitives.class.getField("doubleField"));
+		ReflectorField booleanField = new ReflectorField(primitives, Primitives.class.getField("booleanField"));
+
+		intField.setInt(1);
+		longField.setLong(2L);
+		doubleField.setDouble(3.5);
+		booleanField.setBoolean(true);
+
+		assertEquals(1, primitives.intField);
+		assertEquals(2L, primitives.longField);
+		assertEquals(3.5, primitives.doubleField, 0);
+		assertEquals(true, primitives.booleanField);
+
+		assertEquals(1, intField.getInt());
+		assertEquals(2L, longField.getLong());
+		assertEquals(3.5, doubleField.getDouble(), 0);
+		assertEquals(true, booleanField.getBoolean());
+	}
+
+	@Test
+	public void testPrimitiveGetters_Widening() throws Exception {
+		Primitives primitives = new Primitives();
+		primitives.shortField = 4;
+		ReflectorField shortField = new ReflectorField(primitives, Primitives.class.getField("shortField"));
+		assertEquals(4, shortField.getInt());
+		assertEquals(4L, shortField.getLong());
+		assertEquals(4.0, shortField.getDouble(), 0);
+	}
+
+	@Test
+	public void testPrimitiveSetters_Widening() throws Exception {
+		Primitives primitives = new Primitives();
+		new ReflectorField(primitives, Primitives.class.getField("doubleField")).setInt(4);
+		assertEquals(4.0, primitives.doubleField, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPrimitiveGetter_Narrowing() throws Exception {
+		new ReflectorField(new Primitives(), Primitives.class.getField("longField")).getInt();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPrimitiveGetter_Boxed() throws Exception {
+		Primitives primitives = new Primitives();
+		primitives.boxedField = 1;
+		new ReflectorField(primitives, Primitives.class.getField("boxedField")).getInt();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPrimitiveSetter_Boolean() throws Exception {
+		new ReflectorField(new Primitives(), Primitives.class.getField("intField")).setBoolean(true);
+	}
+
+	@Test
+	public void testValueEqual_Primitives() throws Exception {
+		Primitives primitives = new Primitives();
+		primitives.intField = 1;
+		primitives.longField = 2L;
+		primitives.doubleField = Double.NaN;
+		primitives.booleanField = true;
+
+		assertEquals(true, new ReflectorField(primitives, Primitives.class.getField("intField")).valueEquals(1));
+		assertEquals(false, new ReflectorField(primitives, Primitives.class.getField("intField")).valueEquals(1L));
+		assertEquals(true, new ReflectorField(primitives, Primitives.class.getField("longField")).valueEquals(2L));
+		assertEquals(true, new ReflectorField(primitives, Primitives.class.getField("doubleField")).valueEquals(Double.NaN));
+		assertEquals(true, new ReflectorField(primitives, Primitives.class.getField("booleanField")).valueEquals(true));
+		assertEquals(false, new ReflectorField(primitives, Primitives.class.getField("booleanField")).valueEquals(false));
+	}
+
+	@Test
+	public void testValueEqual_PrimitiveWrongTarget() throws Exception {
+		ReflectorField rField = new ReflectorField(new Object(), Primitives.class.getField("intField"));
+		assertEquals(false, rField.valueEquals(0));
+	}
 }
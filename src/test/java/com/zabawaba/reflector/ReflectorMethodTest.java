@@ -1,10 +1,15 @@
 package com.zabawaba.reflector;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -61,4 +66,77 @@ public class ReflectorMethodTest {
 		new ReflectorMethod(sample, method).call();
 		fail("should have failed");
 	}
+
+	@Test
+	public void testInvoke() throws InvocationTargetException {
+		SampleOne other = new SampleOne();
+		other.field1 = expected;
+		ReflectorMethod rMethod = new ReflectorMethod(sample, method);
+		assertEquals(expected, rMethod.invoke(other));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvoke_WrongTarget() throws InvocationTargetException {
+		new ReflectorMethod(null, method).invoke(new Object());
+	}
+
+	@Test
+	public void testInvokeAll() throws InvocationTargetException {
+		SampleOne[] targets = new SampleOne[3];
+		for (int i = 0; i < targets.length; i++) {
+			targets[i] = new SampleOne();
+			targets[i].field1 = "target" + i;
+		}
+		ReflectorMethod rMethod = new ReflectorMethod(null, method);
+		assertArrayEquals(new Object[] { "target0", "target1", "target2" }, rMethod.invokeAll(targets));
+		assertArrayEquals(new Object[] { "target0", "target1", "target2" }, rMethod.invokeAll(Arrays.asList(targets)));
+	}
+
+	@Test
+	public void testInvokeAll_SharedParameters() throws InvocationTargetException, NoSuchMethodException {
+		ReflectorMethod rMethod = new ReflectorMethod(null, SampleOne.class.getMethod("override", String.class));
+		assertArrayEquals(new Object[] { 1, 1 }, rMethod.invokeAll(new Object[] { sample, sample }, "foo"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvokeAll_WrongTarget() throws InvocationTargetException {
+		new ReflectorMethod(null, method).invokeAll(new Object[] { sample, new Object() });
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInvokeAll_InvocationTarget() throws InvocationTargetException, NoSuchMethodException {
+		new ReflectorMethod(null, SampleOne.class.getMethod("blowup")).invokeAll(new Object[] { sample });
+	}
+
+	@Test
+	public void testInvokeAll_Parallel() throws InvocationTargetException {
+		List<SampleOne> targets = new ArrayList<SampleOne>();
+		for (int i = 0; i < 5000; i++) {
+			SampleOne target = new SampleOne();
+			target.field1 = "target" + i;
+			targets.add(target);
+		}
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Object[] results = new ReflectorMethod(null, method).invokeAll(pool, targets);
+			assertEquals(5000, results.length);
+			for (int i = 0; i < results.length; i++) {
+				assertEquals("target" + i, results[i]);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInvokeAll_ParallelInvocationTarget() throws InvocationTargetException, NoSuchMethodException {
+		Object[] targets = new Object[3000];
+		Arrays.fill(targets, sample);
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			new ReflectorMethod(null, SampleOne.class.getMethod("blowup")).invokeAll(pool, targets);
+		} finally {
+			pool.shutdown();
+		}
+	}
 }
@@ -0,0 +1,178 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
+
+public class ReflectorMetricsTest {
+
+	@Before
+	public void setup() {
+		// the build runs this test in its own JVM with -Dreflector.metrics=true
+		assumeTrue(ReflectorMetrics.isEnabled());
+	}
+
+	@Test
+	public void testIsEnabled() {
+		assertEquals(Boolean.getBoolean("reflector.metrics"), ReflectorMetrics.isEnabled());
+	}
+
+	@Test
+	public void testMemberStats_Field() throws Exception {
+		SampleOne sample = new SampleOne();
+		ReflectorField field = new ReflectorField(sample, ClassMetadata.forClass(SampleOne.class).field("field2"));
+		long calls = calls(field.getField());
+		field.setInt(3);
+		assertEquals(3, field.getInt());
+		assertEquals(3, field.getValue());
+		assertEquals(calls + 3, calls(field.getField()));
+	}
+
+	@Test
+	public void testMemberStats_Errors() throws Exception {
+		SampleOne sample = new SampleOne();
+		Method method = ClassMetadata.forClass(SampleOne.class).method("blowup");
+		long errors = errors(method);
+		try {
+			new ReflectorMethod(sample, method).call();
+			fail("should have failed");
+		} catch (InvocationTargetException e) {
+			// expected
+		}
+		assertEquals(errors + 1, errors(method));
+	}
+
+	@Test
+	public void testMemberStats_Batch() throws Exception {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("method2");
+		long calls = calls(method);
+		new ReflectorMethod(null, method).invokeAll(new Object[] { new SampleOne(), new SampleOne() });
+		assertEquals(calls + 2, calls(method));
+	}
+
+	@Test
+	public void testMemberStats_Latency() throws Exception {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("method1");
+		new ReflectorMethod(new SampleOne(), method).call();
+		MemberStats stats = stats(method);
+		assertTrue(stats.getMaxNanos() >= stats.getMeanNanos());
+		assertTrue(stats.getPercentileNanos(50) <= stats.getPercentileNanos(100));
+		assertEquals(stats.getMaxNanos(), stats.getPercentileNanos(100));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMemberStats_BadPercentile() throws Exception {
+		Method method = ClassMetadata.forClass(SampleOne.class).method("method1");
+		new ReflectorMethod(new SampleOne(), method).call();
+		stats(method).getPercentileNanos(101);
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		SampleOne sample = new SampleOne();
+		ReflectorField field = new ReflectorField(sample, ClassMetadata.forClass(SampleOne.class).field("field1"));
+		field.setValue("a");
+		ReflectorMetrics.reset();
+		assertEquals(null, stats(field.getField()));
+		assertEquals(0, cache("names").getHits());
+
+		// the access created before the reset keeps counting
+		for (int i = 0; i < 5; i++) {
+			field.getValue();
+		}
+		assertEquals(5, calls(field.getField()));
+	}
+
+	@Test
+	public void testMemberStats_ClassUnloaded() throws Exception {
+		URL classes = SampleOne.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+		WeakReference<ClassLoader> ref = new WeakReference<ClassLoader>(loader);
+		callIsolated(loader);
+		loader.close();
+		loader = null;
+
+		for (int i = 0; i < 50 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull("metrics kept the class loader alive", ref.get());
+		for (MemberStats stats : ReflectorMetrics.memberStats()) {
+			assertSame(SampleOne.class, stats.getMember().getDeclaringClass());
+		}
+	}
+
+	private static void callIsolated(ClassLoader loader) throws Exception {
+		Class<?> isolated = loader.loadClass(SampleOne.class.getName());
+		Object sample = isolated.newInstance();
+		ReflectorField field = new ReflectorField(sample, ClassMetadata.forClass(isolated).field("field1"));
+		field.setValue("a");
+		assertEquals(1, calls(field.getField()));
+	}
+
+	@Test
+	public void testCacheStats() {
+		long hits = cache("names").getHits();
+		ClassMetadata.forClass(SampleThree.class).field("field1");
+		ClassMetadata.forClass(SampleThree.class).field("field1");
+		assertTrue(cache("names").getHits() > hits);
+		assertEquals(4, ReflectorMetrics.cacheStats().size());
+	}
+
+	@Test
+	public void testRegisterMBean() throws Exception {
+		ObjectName name = ReflectorMetrics.registerMBean();
+		assertEquals(name, ReflectorMetrics.registerMBean());
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+		assertEquals(4, ((String[]) server.getAttribute(name, "Caches")).length);
+	}
+
+	private static MemberStats stats(Member member) {
+		for (MemberStats stats : ReflectorMetrics.memberStats()) {
+			if (stats.getMember().equals(member)) {
+				return stats;
+			}
+		}
+		return null;
+	}
+
+	private static long calls(Member member) {
+		MemberStats stats = stats(member);
+		return stats == null ? 0 : stats.getCalls();
+	}
+
+	private static long errors(Member member) {
+		MemberStats stats = stats(member);
+		return stats == null ? 0 : stats.getErrors();
+	}
+
+	private static CacheStats cache(String name) {
+		for (CacheStats stats : ReflectorMetrics.cacheStats()) {
+			if (stats.getName().equals(name)) {
+				return stats;
+			}
+		}
+		return null;
+	}
+}
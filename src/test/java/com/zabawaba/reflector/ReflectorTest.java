@@ -0,0 +1,184 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.zabawaba.reflector.classes.Empty;
+import com.zabawaba.reflector.classes.Primitives;
+import com.zabawaba.reflector.classes.SampleFour;
+import com.zabawaba.reflector.classes.SampleOne;
+import com.zabawaba.reflector.classes.SampleThree;
+import com.zabawaba.reflector.classes.SampleTwo;
+
+public class ReflectorTest {
+
+	@Test
+	public void testWarmUp() {
+		List<Class<?>> classes = Arrays.<Class<?>> asList(Empty.class, SampleOne.class, SampleTwo.class);
+		WarmUpStats stats = Reflector.warmUp(classes);
+
+		int expected = 0;
+		for (Class<?> c : classes) {
+			ClassMetadata metadata = ClassMetadata.forClass(c);
+			expected += metadata.fields().length + metadata.methods().length + metadata.constructors().length;
+		}
+		assertEquals(3, stats.getClassCount());
+		assertEquals(0, stats.getFailedCount());
+		assertEquals(expected, stats.getMemberCount());
+		assertTrue(stats.getElapsedNanos() > 0);
+		assertTrue(stats.getScanNanos() > 0);
+	}
+
+	@Test
+	public void testWarmUp_ManyClasses() {
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		for (int i = 0; i < 50; i++) {
+			classes.add(i % 2 == 0 ? SampleThree.class : String.class);
+		}
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			WarmUpStats stats = Reflector.warmUp(classes, pool);
+			assertEquals(50, stats.getClassCount());
+			assertEquals(0, stats.getFailedCount());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testWarmUp_NullClass() {
+		List<Class<?>> classes = Arrays.<Class<?>> asList(SampleOne.class, null, SampleTwo.class);
+		WarmUpStats stats = Reflector.warmUp(classes);
+		assertEquals(3, stats.getClassCount());
+		assertEquals(1, stats.getFailedCount());
+	}
+
+	@Test
+	public void testWarmUp_Empty() {
+		WarmUpStats stats = Reflector.warmUp(Collections.<Class<?>> emptyList());
+		assertEquals(0, stats.getClassCount());
+		assertEquals(0, stats.getMemberCount());
+	}
+
+	@Test
+	public void testCopy() throws Exception {
+		Primitives source = new Primitives();
+		source.intField = 42;
+		source.boxedField = 7;
+		Primitives target = Reflector.copy(source, new Primitives());
+		assertEquals(42, target.intField);
+		assertEquals(Integer.valueOf(7), target.boxedField);
+	}
+
+	@Test
+	public void testToMap() throws Exception {
+		Primitives obj = new Primitives();
+		obj.intField = 3;
+		obj.boxedField = 4;
+		Map<String, Object> map = Reflector.toMap(obj);
+		assertEquals(Arrays.asList("intField", "longField", "doubleField", "booleanField", "shortField", "boxedField"),
+				new ArrayList<String>(map.keySet()));
+		assertEquals(3, map.get("intField"));
+		assertEquals(4, map.get("boxedField"));
+	}
+
+	@Test
+	public void testToMap_ShadowedFields() throws Exception {
+		SampleFour obj = new SampleFour();
+		obj.field1 = 9;
+		Map<String, Object> map = Reflector.toMap(obj);
+		assertEquals(9, map.get("field1"));
+		assertEquals("four", map.get("four"));
+		assertEquals(4, map.size());
+	}
+
+	@Test
+	public void testToMap_GivenMap() throws Exception {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("other", "value");
+		assertSame(map, Reflector.toMap(new Primitives(), map));
+		assertEquals(7, map.size());
+	}
+
+	@Test
+	public void testFromMap() throws Exception {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("intField", 5);
+		map.put("booleanField", true);
+		map.put("boxedField", null);
+		map.put("unknown", "ignored");
+		Primitives obj = Reflector.fromMap(map, Primitives.class);
+		assertEquals(5, obj.intField);
+		assertEquals(true, obj.booleanField);
+		assertEquals(0L, obj.longField);
+		assertNull(obj.boxedField);
+	}
+
+	@Test
+	public void testFromMap_RoundTrip() throws Exception {
+		Primitives obj = new Primitives();
+		obj.doubleField = 1.5;
+		obj.shortField = 2;
+		Primitives copy = Reflector.fromMap(Reflector.toMap(obj), Primitives.class);
+		assertEquals(1.5, copy.doubleField, 0);
+		assertEquals(2, copy.shortField);
+		assertFalse(copy.booleanField);
+	}
+
+	@Test(expected = InstantiationException.class)
+	public void testFromMap_NoDefaultConstructor() throws Exception {
+		Reflector.fromMap(new HashMap<String, Object>(), Integer.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFromMap_WrongType() throws Exception {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("intField", "not an int");
+		Reflector.fromMap(map, Primitives.class);
+	}
+
+	@Test
+	public void testPlans() {
+		Primitives a = new Primitives();
+		Primitives b = new Primitives();
+		a.longField = b.longField = 12;
+		assertTrue(Reflector.equalsPlan(Primitives.class).equals(a, b));
+		assertEquals(Reflector.hashCodePlan(Primitives.class).hashCode(a),
+				Reflector.hashCodePlan(Primitives.class).hashCode(b));
+		assertEquals("Primitives[intField=0, longField=12, doubleField=0.0, booleanField=false, shortField=0, boxedField=null]",
+				Reflector.toStringPlan(Primitives.class).toString(a));
+	}
+
+	@Test
+	public void testEqualsPlan_Contract() {
+		EqualsPlan plan = Reflector.equalsPlan(Primitives.class);
+		assertFalse(plan.equals(new Primitives(), null));
+		assertFalse(plan.equals(null, new Primitives()));
+		assertFalse(plan.equals(new Primitives(), new SampleOne()));
+		assertFalse(plan.equals(new SampleOne(), new Primitives()));
+	}
+
+	@Test
+	public void testPlans_Filtered() {
+		SampleOne a = new SampleOne();
+		SampleOne b = new SampleOne();
+		b.field1 = "b";
+		assertTrue(Reflector.equalsPlan(SampleOne.class, Fields.thatArePrivate()).equals(a, b));
+		assertFalse(Reflector.equalsPlan(SampleOne.class, Fields.thatArePublic()).equals(a, b));
+		assertEquals("SampleOne[field1=b]", Reflector.toStringPlan(SampleOne.class, Fields.thatArePublic()).toString(b));
+		assertEquals(31 + "b".hashCode(), Reflector.hashCodePlan(SampleOne.class, Fields.thatArePublic()).hashCode(b));
+	}
+}
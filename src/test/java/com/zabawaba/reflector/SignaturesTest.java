@@ -0,0 +1,54 @@
+package com.zabawaba.reflector;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SignaturesTest {
+
+	@Test
+	public void testIsAssignable() {
+		assertTrue(Signatures.isAssignable(Object.class, String.class));
+		assertTrue(Signatures.isAssignable(int.class, Integer.class));
+		assertTrue(Signatures.isAssignable(long.class, Integer.class));
+		assertTrue(Signatures.isAssignable(Number.class, int.class));
+		assertTrue(Signatures.isAssignable(String.class, null));
+		assertFalse(Signatures.isAssignable(int.class, null));
+		assertFalse(Signatures.isAssignable(int.class, Long.class));
+		assertFalse(Signatures.isAssignable(Long.class, int.class));
+		assertFalse(Signatures.isAssignable(int.class, boolean.class));
+	}
+
+	@Test
+	public void testMostSpecific() {
+		Class<?>[][] candidates = { { Object.class }, { Number.class }, { long.class } };
+		assertEquals(2, Signatures.mostSpecific(candidates, new Class<?>[] { int.class }));
+		assertEquals(1, Signatures.mostSpecific(candidates, new Class<?>[] { Double.class }));
+		assertEquals(0, Signatures.mostSpecific(candidates, new Class<?>[] { String.class }));
+		assertEquals(-1, Signatures.mostSpecific(candidates, new Class<?>[0]));
+	}
+
+	@Test
+	public void testMostSpecific_WideningBeforeBoxing() {
+		Class<?>[][] candidates = { { Integer.class }, { long.class } };
+		assertEquals(1, Signatures.mostSpecific(candidates, new Class<?>[] { int.class }));
+		assertEquals(0, Signatures.mostSpecific(candidates, new Class<?>[] { Integer.class }));
+		assertEquals(0, Signatures.mostSpecific(new Class<?>[][] { { Integer.class } }, new Class<?>[] { int.class }));
+	}
+
+	@Test
+	public void testMostSpecific_Ambiguous() {
+		Class<?>[][] candidates = { { Object.class, String.class }, { String.class, Object.class } };
+		assertEquals(-1, Signatures.mostSpecific(candidates, new Class<?>[] { String.class, String.class }));
+	}
+
+	@Test
+	public void testTypesOf() {
+		assertArrayEquals(new Class<?>[] { String.class, null, Integer.class },
+				Signatures.typesOf(new Object[] { "a", null, 1 }));
+		assertEquals(0, Signatures.typesOf(null).length);
+	}
+}
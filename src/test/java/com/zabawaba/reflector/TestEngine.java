@@ -0,0 +1,52 @@
+package com.zabawaba.reflector;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import com.zabawaba.reflector.classes.Values;
+
+/**
+ * Registered as a service for the tests, only accesses fields of
+ * {@link Values}
+ */
+public class TestEngine implements AccessEngine {
+
+	@Override
+	public String getName() {
+		return "test";
+	}
+
+	@Override
+	public int getPriority() {
+		return 1000;
+	}
+
+	@Override
+	public FieldAccess forField(final Field field) {
+		if (field.getDeclaringClass() != Values.class) {
+			return null;
+		}
+		return new FieldAccess(field) {
+			@Override
+			public Object get(Object target) throws IllegalAccessException {
+				return field.get(target);
+			}
+
+			@Override
+			public void set(Object target, Object value) throws IllegalAccessException {
+				field.set(target, value);
+			}
+		};
+	}
+
+	@Override
+	public MethodAccess forMethod(Method method) {
+		return null;
+	}
+
+	@Override
+	public ConstructorAccess forConstructor(Constructor<?> constructor) {
+		return null;
+	}
+}
@@ -0,0 +1,5 @@
+package com.zabawaba.reflector.classes;
+
+public enum Color {
+	RED, GREEN
+}
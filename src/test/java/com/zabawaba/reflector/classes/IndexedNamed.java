@@ -0,0 +1,8 @@
+package com.zabawaba.reflector.classes;
+
+import com.zabawaba.reflector.Indexed;
+
+@Indexed
+public class IndexedNamed extends NamedBase implements Named<String>, Comparable<IndexedNamed> {
+	public int compareTo(IndexedNamed other){return 0;}
+}
@@ -0,0 +1,5 @@
+package com.zabawaba.reflector.classes;
+
+public interface Named<T> {
+	T getName();
+}
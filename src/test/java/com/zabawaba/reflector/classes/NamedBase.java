@@ -0,0 +1,5 @@
+package com.zabawaba.reflector.classes;
+
+public class NamedBase {
+	public String getName(){return "base";}
+}
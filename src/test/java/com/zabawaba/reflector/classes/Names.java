@@ -0,0 +1,18 @@
+package com.zabawaba.reflector.classes;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class Names implements Iterable<String>, Comparable<Names> {
+	private final String[] names = { "a", "b" };
+
+	@Override
+	public Iterator<String> iterator() {
+		return Arrays.asList(names).iterator();
+	}
+
+	@Override
+	public int compareTo(Names other) {
+		return names.length - other.names.length;
+	}
+}
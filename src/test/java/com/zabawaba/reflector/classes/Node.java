@@ -0,0 +1,14 @@
+package com.zabawaba.reflector.classes;
+
+public class Node {
+	public static Node shared;
+
+	public int id;
+	public Node next;
+	public Object value;
+	public Node[] children;
+
+	public Node(int id) {
+		this.id = id;
+	}
+}
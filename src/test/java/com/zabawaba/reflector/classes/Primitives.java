@@ -0,0 +1,10 @@
+package com.zabawaba.reflector.classes;
+
+public class Primitives {
+	public int intField;
+	public long longField;
+	public double doubleField;
+	public boolean booleanField;
+	public short shortField;
+	public Integer boxedField;
+}
@@ -0,0 +1,12 @@
+package com.zabawaba.reflector.classes;
+
+import com.zabawaba.reflector.Indexed;
+
+@Indexed
+public class SampleFour extends SampleTwo {
+	private String four = "four";
+
+	public String four(){return four;}
+	public int override(long param){return 4;}
+	public int override(int param, int param2){return 5;}
+}
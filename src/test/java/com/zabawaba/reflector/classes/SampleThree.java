@@ -0,0 +1,30 @@
+package com.zabawaba.reflector.classes;
+
+public class SampleThree {
+	private final String name;
+	private final int count;
+
+	public SampleThree() {
+		this("default", 0);
+	}
+
+	public SampleThree(String name, int count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("count");
+		}
+		this.name = name;
+		this.count = count;
+	}
+
+	protected SampleThree(Number count) {
+		this("number", count.intValue());
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getCount() {
+		return count;
+	}
+}
@@ -0,0 +1,8 @@
+package com.zabawaba.reflector.classes;
+
+public class SampleTwo extends SampleOne {
+	public int field1;
+
+	public String method1(){return "two";}
+	public int override(int param){return 3;}
+}
@@ -0,0 +1,6 @@
+package com.zabawaba.reflector.classes;
+
+public abstract class Shape {
+	protected Shape() {}
+	public abstract double area();
+}
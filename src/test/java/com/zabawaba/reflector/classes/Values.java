@@ -0,0 +1,11 @@
+package com.zabawaba.reflector.classes;
+
+public class Values {
+	public static int ignored;
+
+	public char letter;
+	public float ratio;
+	public long id;
+	public String name;
+	public int[] numbers;
+}
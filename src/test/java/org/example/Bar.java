@@ -0,0 +1,18 @@
+package org.example;
+
+/**
+ * Lives outside of com.* so the names of its types sort after
+ * java.lang.Object, which the bridge methods javac adds here use
+ */
+public class Bar extends Foo implements Comparable<Bar> {
+
+	@Override
+	public String get() {
+		return "bar";
+	}
+
+	@Override
+	public int compareTo(Bar other) {
+		return 0;
+	}
+}
@@ -0,0 +1,7 @@
+package org.example;
+
+public class Foo {
+	public Object get() {
+		return null;
+	}
+}